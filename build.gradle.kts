@@ -1,4 +1,18 @@
 
 plugins {
     id("com.gtnewhorizons.gtnhconvention")
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+// Benchmarks in src/jmh reuse the stub registries from src/test; run with ./gradlew jmh
+jmh {
+    jmhVersion = "1.37"
+    includeTests = true
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
 }
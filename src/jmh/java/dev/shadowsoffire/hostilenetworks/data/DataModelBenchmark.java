@@ -0,0 +1,88 @@
+package dev.shadowsoffire.hostilenetworks.data;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.ItemStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.TestModels;
+import dev.shadowsoffire.hostilenetworks.config.ModelConfig;
+import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
+
+/**
+ * Tier lookups that run for every model in every machine and GUI, against registries of different sizes.
+ * Each call moves on to the next model so lookups are spread over the whole registry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataModelBenchmark {
+
+    @Param({ "50", "500", "5000" })
+    public int models;
+
+    private String[] ids;
+    private DataModel[] registered;
+    private DataModelInstance[] instances;
+    private int[] data;
+    private ModelTier[] tiers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<DataModel> list = TestModels.register(this.models);
+        this.tiers = ModelTierRegistry.getTiers()
+            .toArray(new ModelTier[0]);
+        this.ids = new String[this.models];
+        this.registered = new DataModel[this.models];
+        this.instances = new DataModelInstance[this.models];
+        this.data = new int[this.models];
+        for (int i = 0; i < this.models; i++) {
+            DataModel model = list.get(i);
+            // Every other model has a config entry, so both threshold paths are measured
+            if (i % 2 == 0) {
+                HostileConfig.MODEL_CONFIGS.put(model.getEntityId(), new ModelConfig());
+            }
+            this.ids[i] = model.getEntityId();
+            this.registered[i] = model;
+            // Spread the models over every tier
+            this.data[i] = i * 37 % 1500;
+            ItemStack stack = DataModelItem.createForEntity(model.getEntityId());
+            DataModelItem.setCurrentData(stack, this.data[i]);
+            this.instances[i] = new DataModelInstance(stack, 0);
+        }
+    }
+
+    private int nextIndex() {
+        int index = this.next;
+        this.next = index + 1 == this.models ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public ModelTier getTier() {
+        int index = nextIndex();
+        return ModelTierRegistry.getTier(this.data[index], this.ids[index]);
+    }
+
+    @Benchmark
+    public int getCurrentTierThreshold() {
+        int index = nextIndex();
+        return this.registered[index].getCurrentTierThreshold(this.tiers[index % this.tiers.length]);
+    }
+
+    @Benchmark
+    public float getAccuracy() {
+        return this.instances[nextIndex()].getAccuracy();
+    }
+}
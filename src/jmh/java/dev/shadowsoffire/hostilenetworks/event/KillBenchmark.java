@@ -0,0 +1,78 @@
+package dev.shadowsoffire.hostilenetworks.event;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.ItemStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.shadowsoffire.hostilenetworks.TestModels;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.item.DeepLearnerItem;
+
+/**
+ * The kill handler behind {@link MobInteractionHandler#onLivingDeath}, from the point the killed entity's id is known,
+ * against registries of different sizes. The player carries one full DeepLearner among other items, and kills cycle
+ * through the registry so most of them match none of its models. The learner is restored before every kill, so its
+ * models never reach the max tier, where kills stop adding data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KillBenchmark {
+
+    // Models a DeepLearner holds
+    private static final int LEARNER_SLOTS = 4;
+    // Inventory slot of the learner
+    private static final int LEARNER_SLOT = 4;
+
+    @Param({ "50", "500", "5000" })
+    public int models;
+
+    private final ItemStack[] inventory = new ItemStack[36];
+    private ItemStack learner;
+    private String[] killed;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<DataModel> list = TestModels.register(this.models);
+        this.killed = new String[this.models];
+        for (int i = 0; i < this.models; i++) {
+            this.killed[i] = list.get(i)
+                .getEntityId();
+        }
+
+        this.learner = new ItemStack(new DeepLearnerItem());
+        for (int slot = 0; slot < LEARNER_SLOTS; slot++) {
+            DeepLearnerItem.setModelAt(this.learner, slot, this.killed[slot * this.models / LEARNER_SLOTS]);
+        }
+        for (int slot = 0; slot < 9; slot++) {
+            this.inventory[slot] = new ItemStack(TestModels.DROP, 64);
+        }
+    }
+
+    /**
+     * Give the player an untouched copy of the learner, so every kill sees the same model data.
+     */
+    @Setup(Level.Invocation)
+    public void resetLearner() {
+        this.inventory[LEARNER_SLOT] = this.learner.copy();
+    }
+
+    @Benchmark
+    public void onKill() {
+        String entityId = this.killed[this.next];
+        this.next = this.next + 1 == this.models ? 0 : this.next + 1;
+        MobInteractionHandler.onKill(entityId, this.inventory);
+    }
+}
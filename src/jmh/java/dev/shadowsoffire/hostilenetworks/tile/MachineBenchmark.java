@@ -0,0 +1,73 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.shadowsoffire.hostilenetworks.TestModels;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+
+/**
+ * Per-tick machine checks against registries of different sizes. The machines are built without a World.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MachineBenchmark {
+
+    @Param({ "50", "500", "5000" })
+    public int models;
+
+    private DataModel model;
+    private SimChamberTileEntity chamber;
+    private LootFabTileEntity fab;
+    private ItemStack drop;
+
+    @Setup
+    public void setUp() {
+        List<DataModel> list = TestModels.register(this.models);
+        this.model = list.get(this.models / 2);
+
+        // A chamber that is ready to start: attuned model, matrices, energy and empty outputs
+        this.chamber = new SimChamberTileEntity();
+        this.chamber.setInventorySlotContents(Constants.SLOT_MODEL, TestModels.createSimulatingModel(this.model));
+        this.chamber.setInventorySlotContents(
+            Constants.SLOT_MATRIX,
+            new ItemStack(HostileItems.prediction_matrix, 64));
+        this.chamber.receiveEnergy(ForgeDirection.DOWN, Integer.MAX_VALUE, false);
+
+        // A fabricator with half its grid holding other items and the rest part-filled with the drop
+        this.fab = new LootFabTileEntity();
+        this.drop = this.model.getFabricatorDrops()
+            .get(0);
+        Item other = new Item();
+        for (int slot = Constants.SLOT_OUTPUT_START; slot < this.fab.getSizeInventory(); slot++) {
+            ItemStack stack = slot % 2 == 0 ? new ItemStack(other, 64) : new ItemStack(this.drop.getItem(), 60);
+            this.fab.setInventorySlotContents(slot, stack);
+        }
+    }
+
+    @Benchmark
+    public boolean canStartSimulation() {
+        return this.chamber.canStartSimulation(this.model, false);
+    }
+
+    @Benchmark
+    public int insertInOutput() {
+        return this.fab.insertInOutput(this.drop, this.drop.stackSize, true);
+    }
+}
@@ -86,6 +86,9 @@ public final class HostileConfig {
      */
     public static int simModelUpgrade = 1;
 
+    /** Reserve a whole simulation's energy when it starts instead of drawing it tick by tick */
+    public static boolean simReserveEnergy = false;
+
     /** Allow fractional accuracy accumulation during tier transitions */
     public static boolean continuousAccuracy = true;
 
@@ -95,6 +98,69 @@ public final class HostileConfig {
     /** Energy cost per tick for the Loot Fabricator */
     public static int fabPowerCost = Constants.FAB_POWER_COST;
 
+    /** Maximum predictions the Loot Fabricator consumes per cycle, each multiplying the energy cost */
+    public static int fabBatchSize = 1;
+
+    /** Allow machines to push outputs into adjacent inventories on sides toggled by sneak + right-click */
+    public static boolean autoEjectEnabled = true;
+
+    /** Ticks between auto-output transfers */
+    public static int autoEjectInterval = 20;
+
+    /** Maximum number of items a machine buffers internally once its output slots are full, 0 to disable */
+    public static int outputBufferCap = 1024;
+
+    /** Number of model slots a Simulation Array can run */
+    public static int simArraySlots = 16;
+
+    /** Maximum energy capacity of the Simulation Array (FE) */
+    public static int simArrayPowerCap = Constants.SIM_ARRAY_POWER_CAP;
+
+    /** Virtual simulation jobs the datacenter advances per server tick, across all owners */
+    public static int datacenterJobsPerTick = 256;
+
+    /** Maximum virtual simulation jobs per owner */
+    public static int datacenterMaxJobs = 4096;
+
+    /** Energy capacity of each owner's datacenter (FE) */
+    public static int datacenterPowerCap = 1000000000;
+
+    /** Maximum number of items each owner's datacenter holds before its simulations pause */
+    public static int datacenterOutputCap = 100000;
+
+    /** Energy capacity of the Power Bus (FE) */
+    public static int powerBusCapacity = 100000000;
+
+    /** Distance in blocks along each axis within which machines draw from a Power Bus */
+    public static int powerBusRadius = 8;
+
+    /** Ticks between chunk save flags for machines whose only change was energy or progress */
+    public static int dirtyFlushInterval = 20;
+
+    /** Throttle machine work while the server's mean tick time is over the soft limit */
+    public static boolean governorEnabled = true;
+
+    /** Mean tick time (ms) above which machines start skipping ticks */
+    public static int governorSoftLimitMs = 40;
+
+    /** Mean tick time (ms) at which machines skip the most ticks */
+    public static int governorHardLimitMs = 50;
+
+    /** Most ticks apart a machine works while throttled */
+    public static int governorMaxStride = 4;
+
+    /** Most skipped ticks a machine repays per tick once the server has headroom */
+    public static int governorCatchUpTicks = 2;
+
+    /** How far (ms) below the soft limit the mean tick time must fall before skipped ticks are made up */
+    public static int governorCatchUpMarginMs = 5;
+
+    /** Maximum skipped ticks a machine remembers */
+    public static int governorMaxDebt = 1200;
+
+    /** Ticks over which simulations starting together are spread by machine position, 0 to disable */
+    public static int staggerWindow = 20;
+
     // ==================== General Settings ====================
 
     /** Enable data accumulation from mob kills (Deep Learner functionality) */
@@ -103,6 +169,21 @@ public final class HostileConfig {
     /** Allow right-clicking a blank data model on a mob to attune it */
     public static boolean rightClickToAttune = true;
 
+    /** Time one in every N machine ticks while the /hnn profiler is running */
+    public static int profilerSampleInterval = 4;
+
+    /** Number of machines listed by /hnn profile dump */
+    public static int profilerTopN = 10;
+
+    /** Seconds between writes of config/hostilenetworks/metrics.json, 0 to disable */
+    public static int metricsDumpInterval = 300;
+
+    /** Machine GUI packets the server handles per player per second */
+    public static int packetRateLimit = 20;
+
+    /** Machine GUI packets waiting for the server thread, across all players */
+    public static int packetQueueCapacity = 1024;
+
     // ==================== Data Model Configuration ====================
 
     /**
@@ -117,6 +198,9 @@ public final class HostileConfig {
      */
     public static final java.util.Map<String, ModelConfig> MODEL_CONFIGS = new java.util.HashMap<>();
 
+    /** Incremented every time configuration values are (re)loaded, used to invalidate derived caches */
+    private static int generation;
+
     /**
      * Initialize the configuration system.
      * Should be called during pre-init after DataModelRegistry is initialized.
@@ -134,6 +218,7 @@ public final class HostileConfig {
             if (config.hasChanged()) {
                 config.save();
             }
+            generation++;
         }
 
         HostileNetworks.LOG.info("Loaded {} data model configurations", MODEL_CONFIGS.size());
@@ -244,8 +329,11 @@ public final class HostileConfig {
             HostileNetworks.LOG.info("Added config entry for dynamically registered model: " + entityId);
         }
 
-        if (changed && config.hasChanged()) {
-            config.save();
+        if (changed) {
+            generation++;
+            if (config.hasChanged()) {
+                config.save();
+            }
         }
     }
 
@@ -295,6 +383,7 @@ public final class HostileConfig {
             MODEL_CONFIGS.put(entityId, modelConfig);
         }
 
+        generation++;
         HostileNetworks.LOG.info("Reloaded {} data model configurations", MODEL_CONFIGS.size());
     }
 
@@ -314,6 +403,14 @@ public final class HostileConfig {
                 "Maximum energy capacity of the Simulation Chamber (FE)")
             .getInt(simPowerCap);
 
+        simReserveEnergy = config
+            .get(
+                sectionMachines.name,
+                "simReserveEnergy",
+                simReserveEnergy,
+                "Set aside the energy for a whole simulation (cost x 300 ticks) when it starts, so a late power delivery can no longer stall a running simulation. The chamber then waits until it holds the full amount before starting. Falls back to per-tick draw if a cycle needs more than simPowerCap")
+            .getBoolean(simReserveEnergy);
+
         simModelUpgrade = config.getInt(
             "simModelUpgrade",
             sectionMachines.name,
@@ -341,6 +438,174 @@ public final class HostileConfig {
         fabPowerCost = config
             .get(sectionMachines.name, "fabPowerCost", fabPowerCost, "Energy cost per tick for the Loot Fabricator")
             .getInt(fabPowerCost);
+
+        fabBatchSize = config.getInt(
+            "fabBatchSize",
+            sectionMachines.name,
+            fabBatchSize,
+            1,
+            64,
+            "Predictions the Loot Fabricator processes per cycle when available. A batch of K costs K times fabPowerCost per tick and produces K drops");
+
+        autoEjectEnabled = config
+            .get(
+                sectionMachines.name,
+                "autoEjectEnabled",
+                autoEjectEnabled,
+                "Allow machines to push outputs into adjacent inventories. Sneak + right-click a machine face with an empty hand to toggle that side")
+            .getBoolean(autoEjectEnabled);
+
+        autoEjectInterval = config.getInt(
+            "autoEjectInterval",
+            sectionMachines.name,
+            autoEjectInterval,
+            1,
+            1200,
+            "Ticks between auto-output transfers. Each transfer moves whole stacks where they fit");
+
+        outputBufferCap = config.getInt(
+            "outputBufferCap",
+            sectionMachines.name,
+            outputBufferCap,
+            0,
+            Integer.MAX_VALUE,
+            "Items a machine can hold internally once its output slots are full, so it keeps running through bursts. The output slots refill from this buffer as they are emptied. 0 to disable");
+
+        dirtyFlushInterval = config.getInt(
+            "dirtyFlushInterval",
+            sectionMachines.name,
+            dirtyFlushInterval,
+            1,
+            200,
+            "Ticks between marking a machine's chunk for saving when only its energy or progress changed. Inventory changes are still flushed on the same tick");
+
+        simArraySlots = config.getInt(
+            "simArraySlots",
+            sectionMachines.name,
+            simArraySlots,
+            16,
+            Constants.SIM_ARRAY_MODEL_SLOTS,
+            "Data models one Simulation Array can host. Each runs like its own Simulation Chamber, sharing the array's matrices, energy and output");
+
+        simArrayPowerCap = config.getInt(
+            "simArrayPowerCap",
+            sectionMachines.name,
+            simArrayPowerCap,
+            1,
+            Integer.MAX_VALUE,
+            "Maximum energy capacity of the Simulation Array (FE)");
+
+        datacenterJobsPerTick = config.getInt(
+            "datacenterJobsPerTick",
+            sectionMachines.name,
+            datacenterJobsPerTick,
+            1,
+            65536,
+            "Virtual simulation jobs advanced per server tick across all Simulation Terminal owners. Each visit catches a job up on the ticks since its last visit, so this bounds tick cost without slowing simulations down");
+
+        datacenterMaxJobs = config.getInt(
+            "datacenterMaxJobs",
+            sectionMachines.name,
+            datacenterMaxJobs,
+            1,
+            1000000,
+            "Maximum data models each player can run through Simulation Terminals");
+
+        datacenterPowerCap = config.getInt(
+            "datacenterPowerCap",
+            sectionMachines.name,
+            datacenterPowerCap,
+            1,
+            Integer.MAX_VALUE,
+            "Energy capacity of each player's simulation datacenter (FE)");
+
+        datacenterOutputCap = config.getInt(
+            "datacenterOutputCap",
+            sectionMachines.name,
+            datacenterOutputCap,
+            1,
+            Integer.MAX_VALUE,
+            "Items each player's simulation datacenter holds for Simulation Terminals to output. Simulations pause while it is full");
+
+        powerBusCapacity = config.getInt(
+            "powerBusCapacity",
+            sectionMachines.name,
+            powerBusCapacity,
+            1,
+            Integer.MAX_VALUE,
+            "Energy capacity of the Power Bus (FE). All machines in range share this pool");
+
+        powerBusRadius = config.getInt(
+            "powerBusRadius",
+            sectionMachines.name,
+            powerBusRadius,
+            1,
+            32,
+            "Simulation Chambers and Loot Fabricators within this many blocks of a Power Bus (along each axis) draw energy from it when their own buffer cannot cover the next tick");
+
+        governorEnabled = config
+            .get(
+                sectionMachines.name,
+                "governorEnabled",
+                governorEnabled,
+                "Spread machine work over several ticks while the server is overloaded, and make up the skipped ticks once it recovers")
+            .getBoolean(governorEnabled);
+
+        governorSoftLimitMs = config.getInt(
+            "governorSoftLimitMs",
+            sectionMachines.name,
+            governorSoftLimitMs,
+            1,
+            1000,
+            "Mean server tick time in milliseconds above which machines only work every other tick. 50 ms is 20 TPS");
+
+        governorHardLimitMs = config.getInt(
+            "governorHardLimitMs",
+            sectionMachines.name,
+            governorHardLimitMs,
+            1,
+            1000,
+            "Mean server tick time in milliseconds at which machines work only once every governorMaxStride ticks");
+
+        governorMaxStride = config.getInt(
+            "governorMaxStride",
+            sectionMachines.name,
+            governorMaxStride,
+            2,
+            20,
+            "Most ticks apart a machine works while the server is overloaded");
+
+        governorCatchUpTicks = config.getInt(
+            "governorCatchUpTicks",
+            sectionMachines.name,
+            governorCatchUpTicks,
+            0,
+            100,
+            "Most skipped ticks a machine makes up per tick once the server has headroom. The rate starts at 1 and rises by 1 each second. 0 drops skipped ticks");
+
+        governorCatchUpMarginMs = config.getInt(
+            "governorCatchUpMarginMs",
+            sectionMachines.name,
+            governorCatchUpMarginMs,
+            0,
+            1000,
+            "How many milliseconds below governorSoftLimitMs the mean tick time must fall before machines start making up skipped ticks, so catching up does not push the server straight back over the limit");
+
+        governorMaxDebt = config.getInt(
+            "governorMaxDebt",
+            sectionMachines.name,
+            governorMaxDebt,
+            0,
+            72000,
+            "Most skipped ticks a machine remembers for making up later");
+
+        staggerWindow = config.getInt(
+            "staggerWindow",
+            sectionMachines.name,
+            staggerWindow,
+            0,
+            Constants.SIMULATION_TICKS,
+            "Simulations that start from idle wait up to this many ticks for a slot derived from the machine's position, so chambers filled together do not all finish on the same tick. Back-to-back cycles are never delayed. 0 to disable");
     }
 
     /**
@@ -364,6 +629,45 @@ public final class HostileConfig {
                 rightClickToAttune,
                 "Allow right-clicking a blank data model on a mob to attune it")
             .getBoolean(rightClickToAttune);
+
+        profilerSampleInterval = config.getInt(
+            "profilerSampleInterval",
+            sectionGeneral.name,
+            profilerSampleInterval,
+            1,
+            1000,
+            "While /hnn profile is running, time one in every N machine ticks (1 = every tick)");
+
+        profilerTopN = config.getInt(
+            "profilerTopN",
+            sectionGeneral.name,
+            profilerTopN,
+            1,
+            100,
+            "Number of most expensive machines listed in chat by /hnn profile dump");
+        metricsDumpInterval = config.getInt(
+            "metricsDumpInterval",
+            sectionGeneral.name,
+            metricsDumpInterval,
+            0,
+            86400,
+            "Seconds between writes of machine production counters to config/hostilenetworks/metrics.json. 0 to disable");
+
+        packetRateLimit = config.getInt(
+            "packetRateLimit",
+            sectionGeneral.name,
+            packetRateLimit,
+            1,
+            1000,
+            "Machine GUI packets (such as Loot Fabricator selections) the server handles per player per second. Further packets are dropped");
+
+        packetQueueCapacity = config.getInt(
+            "packetQueueCapacity",
+            sectionGeneral.name,
+            packetQueueCapacity,
+            16,
+            65536,
+            "Machine GUI packets that may wait for the server thread across all players. Packets arriving while it is full are dropped");
     }
 
     /**
@@ -710,6 +1014,13 @@ public final class HostileConfig {
         return COLOR_MAP.getOrDefault(colorName.toLowerCase(), EnumChatFormatting.GRAY);
     }
 
+    /**
+     * Get the configuration generation, incremented whenever config values are loaded or reloaded.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
     /**
      * Get the config file path for this mod.
      *
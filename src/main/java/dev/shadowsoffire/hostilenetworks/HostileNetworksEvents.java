@@ -5,6 +5,7 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.world.WorldEvent;
 
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.Mod.EventHandler;
@@ -18,10 +19,15 @@ import cpw.mods.fml.common.network.simpleimpl.SimpleNetworkWrapper;
 import cpw.mods.fml.relauncher.Side;
 import dev.shadowsoffire.hostilenetworks.command.GenerateModelCommand;
 import dev.shadowsoffire.hostilenetworks.command.GiveModelCommand;
+import dev.shadowsoffire.hostilenetworks.command.HnnCommand;
 import dev.shadowsoffire.hostilenetworks.compatibility.nei.NEIHostileNetworksConfig;
+import dev.shadowsoffire.hostilenetworks.datacenter.SimDatacenter;
 import dev.shadowsoffire.hostilenetworks.event.MobInteractionHandler;
 import dev.shadowsoffire.hostilenetworks.gui.HNNGuiHandler;
 import dev.shadowsoffire.hostilenetworks.net.LootFabSelectionMessage;
+import dev.shadowsoffire.hostilenetworks.net.ServerPacketQueue;
+import dev.shadowsoffire.hostilenetworks.tile.TickGovernor;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
 
 /**
  * Main event handler for Hostile Neural Networks.
@@ -50,6 +56,18 @@ public class HostileNetworksEvents {
         // Register event handlers
         MinecraftForge.EVENT_BUS.register(new MobInteractionHandler());
         MinecraftForge.EVENT_BUS.register(new HostileNetworksEvents());
+        FMLCommonHandler.instance()
+            .bus()
+            .register(new HostileMetrics.DumpTicker());
+        FMLCommonHandler.instance()
+            .bus()
+            .register(new SimDatacenter.Ticker());
+        FMLCommonHandler.instance()
+            .bus()
+            .register(new TickGovernor.Ticker());
+        FMLCommonHandler.instance()
+            .bus()
+            .register(new ServerPacketQueue.Ticker());
         HostileNetworks.LOG.info("Registered event handlers for LivingDeathEvent");
 
         // Register NEI integration if NEI is present - only on client side
@@ -68,9 +86,13 @@ public class HostileNetworksEvents {
 
     @EventHandler
     public void serverStarting(FMLServerStartingEvent event) {
+        // Carry production totals over from the last metrics dump
+        HostileMetrics.loadJson();
+
         // Register commands
         event.registerServerCommand(new GenerateModelCommand());
         event.registerServerCommand(new GiveModelCommand());
+        event.registerServerCommand(new HnnCommand());
     }
 
     /**
@@ -80,6 +102,25 @@ public class HostileNetworksEvents {
         NETWORK.sendToServer(new LootFabSelectionMessage(x, y, z, selection));
     }
 
+    /**
+     * Send a loot fabricator schedule weight change to the server.
+     *
+     * @param mode {@link LootFabSelectionMessage#MODE_ADD_WEIGHT} or {@link LootFabSelectionMessage#MODE_REMOVE_WEIGHT}
+     */
+    public static void sendLootFabScheduleChange(int x, int y, int z, int dropIndex, byte mode) {
+        NETWORK.sendToServer(new LootFabSelectionMessage(x, y, z, dropIndex, mode));
+    }
+
+    /**
+     * Release per-world caches when a server world unloads, including on server stop.
+     */
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.world.isRemote) {
+            SimDatacenter.onWorldUnload(event.world);
+        }
+    }
+
     /**
      * Handle LivingDeathEvent to track mob kills for data model updates.
      * This is called when any living entity dies.
@@ -6,7 +6,10 @@ import net.minecraft.item.ItemBlock;
 
 import cpw.mods.fml.common.registry.GameRegistry;
 import dev.shadowsoffire.hostilenetworks.tile.LootFabTileEntity;
+import dev.shadowsoffire.hostilenetworks.tile.PowerBusTileEntity;
+import dev.shadowsoffire.hostilenetworks.tile.SimArrayTileEntity;
 import dev.shadowsoffire.hostilenetworks.tile.SimChamberTileEntity;
+import dev.shadowsoffire.hostilenetworks.tile.SimTerminalTileEntity;
 
 /**
  * Registry class for all blocks in Hostile Neural Networks.
@@ -15,6 +18,9 @@ public class HostileBlocks {
 
     public static Block sim_chamber;
     public static Block loot_fabricator;
+    public static Block power_bus;
+    public static Block sim_array;
+    public static Block sim_terminal;
 
     // ItemBlocks for custom rendering
     public static Item item_sim_chamber;
@@ -38,10 +44,16 @@ public class HostileBlocks {
     public static void init() {
         sim_chamber = registerBlock(new SimChamberBlock(), MachineItemBlock.class, "sim_chamber", true);
         loot_fabricator = registerBlock(new LootFabBlock(), MachineItemBlock.class, "loot_fabricator", true);
+        power_bus = registerBlock(new PowerBusBlock(), "power_bus");
+        sim_array = registerBlock(new SimArrayBlock(), "sim_array");
+        sim_terminal = registerBlock(new SimTerminalBlock(), "sim_terminal");
 
         // Register TileEntities
         GameRegistry.registerTileEntity(SimChamberTileEntity.class, "SimChamberTileEntity");
         GameRegistry.registerTileEntity(LootFabTileEntity.class, "LootFabTileEntity");
+        GameRegistry.registerTileEntity(PowerBusTileEntity.class, "PowerBusTileEntity");
+        GameRegistry.registerTileEntity(SimArrayTileEntity.class, "SimArrayTileEntity");
+        GameRegistry.registerTileEntity(SimTerminalTileEntity.class, "SimTerminalTileEntity");
     }
 
     private static Block registerBlock(Block block, String name) {
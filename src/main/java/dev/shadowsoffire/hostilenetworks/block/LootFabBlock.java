@@ -1,16 +1,23 @@
 package dev.shadowsoffire.hostilenetworks.block;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
+import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChatComponentTranslation;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import dev.shadowsoffire.hostilenetworks.HostileNetworks;
 import dev.shadowsoffire.hostilenetworks.gui.HNNGuiHandler;
+import dev.shadowsoffire.hostilenetworks.tile.AutoEjector;
 import dev.shadowsoffire.hostilenetworks.tile.LootFabTileEntity;
 
 /**
@@ -72,9 +79,61 @@ public class LootFabBlock extends BlockContainer {
             return true;
         }
         TileEntity tile = world.getTileEntity(x, y, z);
+
+        // Sneak + empty hand toggles auto-output on the clicked face
+        if (player.isSneaking() && player.getCurrentEquippedItem() == null) {
+            AutoEjector ejector = AutoEjector.get(tile);
+            if (ejector != null) {
+                boolean enabled = ejector.toggle(side);
+                tile.markDirty();
+                player.addChatMessage(
+                    new ChatComponentTranslation(
+                        enabled ? "hostilenetworks.msg.auto_eject.enabled" : "hostilenetworks.msg.auto_eject.disabled",
+                        new ChatComponentTranslation(
+                            "hostilenetworks.side." + ForgeDirection.getOrientation(side)
+                                .name()
+                                .toLowerCase())));
+            }
+            return true;
+        }
         if (tile instanceof LootFabTileEntity) {
             player.openGui(HostileNetworks.instance, HNNGuiHandler.LOOT_FAB_GUI, world, x, y, z);
         }
         return true;
     }
+
+    @Override
+    public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (tile instanceof LootFabTileEntity) {
+            LootFabTileEntity fabricator = (LootFabTileEntity) tile;
+            for (int i = 0; i < fabricator.getSizeInventory(); i++) {
+                ItemStack stack = fabricator.getStackInSlot(i);
+                if (stack != null) {
+                    world.spawnEntityInWorld(new EntityItem(world, x + 0.5, y + 0.5, z + 0.5, stack.copy()));
+                    fabricator.setInventorySlotContents(i, null);
+                }
+            }
+            for (ItemStack stack : fabricator.removeBufferedItems()) {
+                world.spawnEntityInWorld(new EntityItem(world, x + 0.5, y + 0.5, z + 0.5, stack));
+            }
+        }
+        super.breakBlock(world, x, y, z, block, meta);
+    }
+
+    @Override
+    public void onNeighborBlockChange(World world, int x, int y, int z, Block neighbor) {
+        AutoEjector ejector = AutoEjector.get(world.getTileEntity(x, y, z));
+        if (ejector != null) {
+            ejector.onNeighborChanged();
+        }
+    }
+
+    @Override
+    public void onNeighborChange(IBlockAccess world, int x, int y, int z, int tileX, int tileY, int tileZ) {
+        AutoEjector ejector = AutoEjector.get(world.getTileEntity(x, y, z));
+        if (ejector != null) {
+            ejector.onNeighborChanged();
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package dev.shadowsoffire.hostilenetworks.block;
+
+import net.minecraft.block.BlockContainer;
+import net.minecraft.block.material.Material;
+import net.minecraft.client.renderer.texture.IIconRegister;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChatComponentTranslation;
+import net.minecraft.world.World;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.tile.PowerBusTileEntity;
+
+/**
+ * The Power Bus block.
+ * Stores energy in one shared pool for every machine within range. Right-click to show its status.
+ */
+public class PowerBusBlock extends BlockContainer {
+
+    public PowerBusBlock() {
+        super(Material.iron);
+        setBlockName("power_bus");
+        setBlockTextureName("hostilenetworks:machine_base");
+        setHardness(4.0f);
+        setResistance(3000.0f);
+        setStepSound(soundTypeMetal);
+    }
+
+    @Override
+    public TileEntity createNewTileEntity(World world, int metadata) {
+        return new PowerBusTileEntity();
+    }
+
+    @Override
+    public boolean hasTileEntity() {
+        return true;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void registerBlockIcons(IIconRegister iconRegister) {
+        blockIcon = iconRegister.registerIcon("hostilenetworks:machine_base");
+    }
+
+    @Override
+    public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX,
+        float hitY, float hitZ) {
+        if (world.isRemote) {
+            return true;
+        }
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (tile instanceof PowerBusTileEntity) {
+            PowerBusTileEntity bus = (PowerBusTileEntity) tile;
+            player.addChatMessage(
+                new ChatComponentTranslation(
+                    "hostilenetworks.msg.power_bus.status",
+                    String.format("%,d", bus.getEnergy()),
+                    String.format("%,d", bus.getCapacity()),
+                    bus.countMachinesInRange(),
+                    HostileConfig.powerBusRadius));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package dev.shadowsoffire.hostilenetworks.block;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockContainer;
+import net.minecraft.block.material.Material;
+import net.minecraft.client.renderer.texture.IIconRegister;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChatComponentTranslation;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.tile.AutoEjector;
+import dev.shadowsoffire.hostilenetworks.tile.SimArrayTileEntity;
+
+/**
+ * The Simulation Array block.
+ * Runs many data models at once with shared matrices, energy and output.
+ * Right-click with a data model or prediction matrices to insert them, or with an empty hand to take back the most
+ * recently inserted model and show the status. Breaking the block drops the hosted models and stored items, including
+ * the overflow buffer.
+ */
+public class SimArrayBlock extends BlockContainer {
+
+    public SimArrayBlock() {
+        super(Material.iron);
+        setBlockName("sim_array");
+        setBlockTextureName("hostilenetworks:machine_base_v2");
+        setHardness(4.0f);
+        setResistance(3000.0f);
+        setStepSound(soundTypeMetal);
+    }
+
+    @Override
+    public TileEntity createNewTileEntity(World world, int metadata) {
+        return new SimArrayTileEntity();
+    }
+
+    @Override
+    public boolean hasTileEntity() {
+        return true;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void registerBlockIcons(IIconRegister iconRegister) {
+        blockIcon = iconRegister.registerIcon("hostilenetworks:machine_base_v2");
+    }
+
+    @Override
+    public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX,
+        float hitY, float hitZ) {
+        if (world.isRemote) {
+            return true;
+        }
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (!(tile instanceof SimArrayTileEntity)) {
+            return true;
+        }
+        SimArrayTileEntity array = (SimArrayTileEntity) tile;
+        ItemStack held = player.getCurrentEquippedItem();
+
+        // Sneak + empty hand toggles auto-output on the clicked face, like the other machines
+        if (player.isSneaking() && held == null) {
+            AutoEjector ejector = AutoEjector.get(tile);
+            boolean enabled = ejector.toggle(side);
+            tile.markDirty();
+            player.addChatMessage(
+                new ChatComponentTranslation(
+                    enabled ? "hostilenetworks.msg.auto_eject.enabled" : "hostilenetworks.msg.auto_eject.disabled",
+                    new ChatComponentTranslation(
+                        "hostilenetworks.side." + ForgeDirection.getOrientation(side)
+                            .name()
+                            .toLowerCase())));
+            return true;
+        }
+
+        if (held != null && held.getItem() instanceof DataModelItem && DataModelItem.isAttuned(held)) {
+            ItemStack model = held.splitStack(1);
+            if (array.insertModel(model)) {
+                if (held.stackSize <= 0) {
+                    player.inventory.setInventorySlotContents(player.inventory.currentItem, null);
+                }
+            } else {
+                held.stackSize++;
+                player.addChatMessage(new ChatComponentTranslation("hostilenetworks.msg.sim_array.full"));
+            }
+            return true;
+        }
+
+        if (HostileItems.isPredictionMatrix(held)) {
+            held.stackSize -= array.insertMatrices(held);
+            if (held.stackSize <= 0) {
+                player.inventory.setInventorySlotContents(player.inventory.currentItem, null);
+            }
+            return true;
+        }
+
+        // An empty hand takes back the most recently inserted model, then shows what is left
+        if (held == null) {
+            ItemStack model = array.removeLastModel();
+            if (model != null && !player.inventory.addItemStackToInventory(model)) {
+                player.dropPlayerItemWithRandomChoice(model, false);
+            }
+        }
+
+        player.addChatMessage(
+            new ChatComponentTranslation(
+                "hostilenetworks.msg.sim_array.status",
+                array.getRunningModels(),
+                array.getHostedModels(),
+                HostileConfig.simArraySlots,
+                String.format("%,d", array.getEnergyStored()),
+                array.getBufferedCount()));
+        return true;
+    }
+
+    @Override
+    public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (tile instanceof SimArrayTileEntity) {
+            SimArrayTileEntity array = (SimArrayTileEntity) tile;
+            for (int i = 0; i < array.getSizeInventory(); i++) {
+                ItemStack stack = array.getStackInSlot(i);
+                if (stack != null) {
+                    EntityItem item = new EntityItem(world, x + 0.5, y + 0.5, z + 0.5, stack.copy());
+                    world.spawnEntityInWorld(item);
+                    array.setInventorySlotContents(i, null);
+                }
+            }
+            for (ItemStack stack : array.removeBufferedItems()) {
+                world.spawnEntityInWorld(new EntityItem(world, x + 0.5, y + 0.5, z + 0.5, stack));
+            }
+        }
+        super.breakBlock(world, x, y, z, block, meta);
+    }
+
+    @Override
+    public void onNeighborBlockChange(World world, int x, int y, int z, Block neighbor) {
+        AutoEjector ejector = AutoEjector.get(world.getTileEntity(x, y, z));
+        if (ejector != null) {
+            ejector.onNeighborChanged();
+        }
+    }
+
+    @Override
+    public void onNeighborChange(IBlockAccess world, int x, int y, int z, int tileX, int tileY, int tileZ) {
+        AutoEjector ejector = AutoEjector.get(world.getTileEntity(x, y, z));
+        if (ejector != null) {
+            ejector.onNeighborChanged();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package dev.shadowsoffire.hostilenetworks.block;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockContainer;
+import net.minecraft.block.material.Material;
+import net.minecraft.client.renderer.texture.IIconRegister;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChatComponentTranslation;
+import net.minecraft.world.World;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.datacenter.DatacenterNetwork;
+import dev.shadowsoffire.hostilenetworks.datacenter.SimDatacenter;
+import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.tile.SimTerminalTileEntity;
+
+/**
+ * The Simulation Terminal block.
+ * Inserts data models and matrices into its owner's simulation datacenter and outputs the results.
+ * Right-click with a data model or prediction matrices to insert them, sneak + empty hand to take back the last model,
+ * or an empty hand to show the status. Only the owner (or an operator) can insert or take back models.
+ */
+public class SimTerminalBlock extends BlockContainer {
+
+    public SimTerminalBlock() {
+        super(Material.iron);
+        setBlockName("sim_terminal");
+        setBlockTextureName("hostilenetworks:machine_base_v2");
+        setHardness(4.0f);
+        setResistance(3000.0f);
+        setStepSound(soundTypeMetal);
+    }
+
+    @Override
+    public TileEntity createNewTileEntity(World world, int metadata) {
+        return new SimTerminalTileEntity();
+    }
+
+    @Override
+    public boolean hasTileEntity() {
+        return true;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void registerBlockIcons(IIconRegister iconRegister) {
+        blockIcon = iconRegister.registerIcon("hostilenetworks:machine_base_v2");
+    }
+
+    @Override
+    public void onBlockPlacedBy(World world, int x, int y, int z, EntityLivingBase placer, ItemStack stack) {
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (!world.isRemote && tile instanceof SimTerminalTileEntity && placer instanceof EntityPlayer) {
+            ((SimTerminalTileEntity) tile).setOwner(
+                ((EntityPlayer) placer).getUniqueID()
+                    .toString());
+        }
+    }
+
+    @Override
+    public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX,
+        float hitY, float hitZ) {
+        if (world.isRemote) {
+            return true;
+        }
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (!(tile instanceof SimTerminalTileEntity)) {
+            return true;
+        }
+        SimTerminalTileEntity terminal = (SimTerminalTileEntity) tile;
+        DatacenterNetwork network = terminal.getNetwork();
+        if (network == null) {
+            return true;
+        }
+        ItemStack held = player.getCurrentEquippedItem();
+        boolean managing = player.isSneaking() && held == null
+            || held != null && held.getItem() instanceof DataModelItem && DataModelItem.isAttuned(held);
+
+        // Models live in the owner's whole datacenter, not in this block, so only the owner may move them
+        if (managing && !terminal.canManage(player)) {
+            player.addChatMessage(new ChatComponentTranslation("hostilenetworks.msg.sim_terminal.not_owner"));
+            return true;
+        }
+
+        if (held != null && held.getItem() instanceof DataModelItem && DataModelItem.isAttuned(held)) {
+            ItemStack model = held.splitStack(1);
+            if (network.addJob(model, world.getTotalWorldTime())) {
+                if (held.stackSize <= 0) {
+                    player.inventory.setInventorySlotContents(player.inventory.currentItem, null);
+                }
+                SimDatacenter.get()
+                    .markDirty();
+            } else {
+                held.stackSize++;
+                player.addChatMessage(
+                    new ChatComponentTranslation(
+                        "hostilenetworks.msg.sim_terminal.full",
+                        HostileConfig.datacenterMaxJobs));
+            }
+            return true;
+        }
+
+        if (HostileItems.isPredictionMatrix(held)) {
+            network.addMatrices(held.stackSize);
+            player.inventory.setInventorySlotContents(player.inventory.currentItem, null);
+            SimDatacenter.get()
+                .markDirty();
+            return true;
+        }
+
+        if (player.isSneaking() && held == null) {
+            ItemStack model = network.removeLastJob();
+            if (model != null) {
+                if (!player.inventory.addItemStackToInventory(model)) {
+                    player.dropPlayerItemWithRandomChoice(model, false);
+                }
+                SimDatacenter.get()
+                    .markDirty();
+            }
+            return true;
+        }
+
+        player.addChatMessage(
+            new ChatComponentTranslation(
+                "hostilenetworks.msg.sim_terminal.status",
+                network.getRunningJobs(),
+                network.getJobCount(),
+                String.format("%,d", network.getEnergy()),
+                network.getMatrices(),
+                network.getOutputs()
+                    .getTotal()));
+        return true;
+    }
+
+    @Override
+    public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (tile instanceof SimTerminalTileEntity) {
+            SimTerminalTileEntity terminal = (SimTerminalTileEntity) tile;
+            for (int i = 0; i < terminal.getSizeInventory(); i++) {
+                ItemStack stack = terminal.getStackInSlot(i);
+                if (stack != null) {
+                    world.spawnEntityInWorld(new EntityItem(world, x + 0.5, y + 0.5, z + 0.5, stack.copy()));
+                    terminal.setInventorySlotContents(i, null);
+                }
+            }
+        }
+        super.breakBlock(world, x, y, z, block, meta);
+    }
+}
@@ -1,6 +1,5 @@
 package dev.shadowsoffire.hostilenetworks.client;
 
-import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -78,18 +77,11 @@ public class DataModelItemRenderer implements net.minecraftforge.client.IItemRen
     }
 
     /**
-     * Get the blank icon from DataModelItem's private blankIcon field.
+     * Get the blank icon from DataModelItem (damage 0 always maps to the blank framework icon).
      */
     private static IIcon getBlankIcon(ItemStack stack) {
-        try {
-            DataModelItem item = (DataModelItem) stack.getItem();
-            Field blankIconField = DataModelItem.class.getDeclaredField("blankIcon");
-            blankIconField.setAccessible(true);
-            return (IIcon) blankIconField.get(item);
-        } catch (Exception e) {
-            LOG.warn("Failed to get blank icon from DataModelItem", e);
-            return null;
-        }
+        return stack.getItem()
+            .getIconFromDamage(0);
     }
 
     @Override
@@ -153,19 +145,25 @@ public class DataModelItemRenderer implements net.minecraftforge.client.IItemRen
      * Render for HUD display - no extra transforms, caller handles positioning.
      */
     public void renderForHud(ItemStack stack) {
-        // Render the base/pedestal cube
-        renderBasePlate(stack);
-
         // Render the entity on top of the base
         String entityId = DataModelItem.getEntityId(stack);
-        if (entityId != null) {
-            DataModel model = DataModelRegistry.get(entityId);
-            if (model != null) {
-                // Get scale from DataModel JSON with config override support
-                double scale = model.getScaleWithConfig();
-                renderTrophy(entityId, 0, ENTITY_Y_OFFSET, 0, ENTITY_ROTATION, scale);
-            }
+        DataModel model = entityId != null ? DataModelRegistry.get(entityId) : null;
+        if (model == null) {
+            renderBasePlate(stack);
+            return;
         }
+        // Get scale from DataModel JSON with config override support
+        renderForHud(stack, entityId, model.getScaleWithConfig());
+    }
+
+    /**
+     * Render for HUD display with a pre-resolved entity ID and scale.
+     * Lets callers that cache their layout skip the NBT and registry lookups each frame.
+     */
+    public void renderForHud(ItemStack stack, String entityId, double scale) {
+        // Render the base/pedestal cube
+        renderBasePlate(stack);
+        renderTrophy(entityId, 0, ENTITY_Y_OFFSET, 0, ENTITY_ROTATION, scale);
     }
 
     /**
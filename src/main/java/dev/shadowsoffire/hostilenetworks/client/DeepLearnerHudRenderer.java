@@ -1,14 +1,13 @@
 package dev.shadowsoffire.hostilenetworks.client;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.Gui;
+import net.minecraft.client.gui.GuiChat;
 import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StatCollector;
 
@@ -16,8 +15,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.lwjgl.opengl.GL11;
 
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
 import dev.shadowsoffire.hostilenetworks.HostileNetworks;
 import dev.shadowsoffire.hostilenetworks.data.DataModelInstance;
+import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
 import dev.shadowsoffire.hostilenetworks.data.ModelTier;
 import dev.shadowsoffire.hostilenetworks.data.ModelTierRegistry;
 import dev.shadowsoffire.hostilenetworks.item.DeepLearnerItem;
@@ -46,6 +47,33 @@ public class DeepLearnerHudRenderer extends Gui {
     private static final int SPACING = 28;
     private static final int BG_TEX_WIDTH = 113;
     private static final int BG_TEX_HEIGHT = 100;
+    private static final int BAR_FILL_WIDTH = 87;
+
+    /** Shared renderer instances; the HUD is drawn every frame so nothing is created per call. */
+    private static final DeepLearnerHudRenderer INSTANCE = new DeepLearnerHudRenderer();
+    private static final DataModelItemRenderer MODEL_RENDERER = new DataModelItemRenderer();
+
+    // ==================== Cached Layout ====================
+    // Rebuilt only when the held Deep Learner's NBT, the language, the config or the registry changes.
+
+    private static final ItemStack[] modelStacks = new ItemStack[Constants.DEEP_LEARNER_SLOTS];
+    private static final String[] entityIds = new String[Constants.DEEP_LEARNER_SLOTS];
+    private static final double[] modelScales = new double[Constants.DEEP_LEARNER_SLOTS];
+    private static final boolean[] validModels = new boolean[Constants.DEEP_LEARNER_SLOTS];
+    private static final String[] tierNames = new String[Constants.DEEP_LEARNER_SLOTS];
+    private static final int[] modelLabelOffsets = new int[Constants.DEEP_LEARNER_SLOTS];
+    private static final String[] killsTexts = new String[Constants.DEEP_LEARNER_SLOTS];
+    private static final int[] fillWidths = new int[Constants.DEEP_LEARNER_SLOTS];
+    private static int modelCount;
+    private static int hudHeight;
+    private static String modelLabel;
+
+    /** The NBT the layout was built from, plus a snapshot to detect in-place edits. */
+    private static NBTTagCompound layoutTag;
+    private static NBTTagCompound layoutSnapshot;
+    private static String layoutLanguage;
+    private static int layoutConfigGeneration = -1;
+    private static int layoutRegistryGeneration = -1;
 
     /**
      * Render the Deep Learner HUD if applicable.
@@ -69,31 +97,126 @@ public class DeepLearnerHudRenderer extends Gui {
             return;
         }
 
-        // Get data models from the Deep Learner
-        List<ItemStack> modelStacks = getModelStacks(stack);
-        if (modelStacks.isEmpty() || ModelTierRegistry.getTiers()
+        if (ModelTierRegistry.getTiers()
             .isEmpty()) {
             return;
         }
 
-        int modelCount = modelStacks.size();
-        int hudHeight = 5 + SPACING * modelCount;
+        if (isLayoutStale(mc, stack.getTagCompound())) {
+            rebuildLayout(mc, stack);
+        }
+
+        if (modelCount == 0) {
+            return;
+        }
 
         // Position matching original: x=6, y=6
-        int x = 6;
-        int y = 6;
+        INSTANCE.renderHud(mc, 6, 6);
+    }
 
-        // Create instance for drawing
-        DeepLearnerHudRenderer renderer = new DeepLearnerHudRenderer();
-        renderer.renderHud(mc, x, y, hudHeight, modelStacks);
+    /**
+     * Check whether the cached layout no longer matches the held Deep Learner.
+     * Synced stacks get a fresh NBT compound, so the deep comparison only runs when the reference changes.
+     */
+    private static boolean isLayoutStale(Minecraft mc, NBTTagCompound tag) {
+        if (HostileConfig.getGeneration() != layoutConfigGeneration
+            || DataModelRegistry.getGeneration() != layoutRegistryGeneration
+            || !mc.gameSettings.language.equals(layoutLanguage)) {
+            return true;
+        }
+        if (tag == layoutTag) {
+            return false;
+        }
+        if (tag == null || !tag.equals(layoutSnapshot)) {
+            return true;
+        }
+        layoutTag = tag;
+        return false;
     }
 
     /**
-     * Instance method to render the HUD using Gui's drawTexturedModalRect.
+     * Recompute the HUD layout, strings and bar widths for a Deep Learner.
      */
-    private void renderHud(Minecraft mc, int x, int y, int hudHeight, List<ItemStack> modelStacks) {
-        int modelCount = modelStacks.size();
+    private static void rebuildLayout(Minecraft mc, ItemStack deepLearnerStack) {
+        NBTTagCompound tag = deepLearnerStack.getTagCompound();
+        layoutTag = tag;
+        layoutSnapshot = tag != null ? (NBTTagCompound) tag.copy() : null;
+        layoutLanguage = mc.gameSettings.language;
+        layoutConfigGeneration = HostileConfig.getGeneration();
+        layoutRegistryGeneration = DataModelRegistry.getGeneration();
+
+        modelLabel = StatCollector.translateToLocal("hostilenetworks.hud.model");
+        if (modelLabel.equals("hostilenetworks.hud.model")) {
+            modelLabel = " Model";
+        }
+        String killsLabel = StatCollector.translateToLocal("hostilenetworks.hud.kills");
+        if (killsLabel.equals("hostilenetworks.hud.kills")) {
+            killsLabel = "%s kills";
+        }
+
+        FontRenderer font = mc.fontRenderer;
+        int count = 0;
+        for (int i = 0; i < Constants.DEEP_LEARNER_SLOTS; i++) {
+            String entityId = DeepLearnerItem.getModelAt(deepLearnerStack, i);
+            if (entityId == null || entityId.isEmpty()) continue;
+
+            ItemStack modelStack = new ItemStack(HostileItems.data_model);
+            modelStack.setTagCompound(new NBTTagCompound());
+            modelStack.getTagCompound()
+                .setString(NBTKeys.ENTITY_ID, entityId);
+            modelStack.getTagCompound()
+                .setInteger(NBTKeys.CURRENT_DATA, DeepLearnerItem.getModelData(deepLearnerStack, i));
+
+            int row = count++;
+            modelStacks[row] = modelStack;
+            entityIds[row] = entityId;
+
+            DataModelInstance instance = new DataModelInstance(modelStack, row);
+            validModels[row] = instance.isValid();
+            if (!instance.isValid()) {
+                LOG.warn("Model[{}] is not valid", row);
+                continue;
+            }
+
+            modelScales[row] = instance.getModel()
+                .getScaleWithConfig();
+
+            ModelTier tier = instance.getTier();
+            tierNames[row] = tier.getColoredName();
+            modelLabelOffsets[row] = font.getStringWidth(tier.getDisplayName());
+
+            int fillWidth = BAR_FILL_WIDTH;
+            if (!tier.isMax()) {
+                int prevData = instance.getTierData();
+                int currData = instance.getCurrentData();
+                int nextData = instance.getNextTierData();
+                if (nextData > prevData) {
+                    fillWidth = (int) ((float) BAR_FILL_WIDTH * (currData - prevData) / (nextData - prevData));
+                }
+                fillWidth = Math.max(0, Math.min(BAR_FILL_WIDTH, fillWidth));
+                killsTexts[row] = String.format(killsLabel, instance.getKillsNeeded());
+            } else {
+                killsTexts[row] = null;
+            }
+            fillWidths[row] = fillWidth;
+        }
+
+        // Drop references to models that are no longer held
+        for (int i = count; i < Constants.DEEP_LEARNER_SLOTS; i++) {
+            modelStacks[i] = null;
+            entityIds[i] = null;
+            tierNames[i] = null;
+            killsTexts[i] = null;
+        }
+
+        modelCount = count;
+        hudHeight = 5 + SPACING * count;
+    }
 
+    /**
+     * Instance method to render the HUD using Gui's drawTexturedModalRect.
+     */
+    private void renderHud(Minecraft mc, int x, int y) {
         // Setup GL state for 2D rendering
         GL11.glDisable(GL11.GL_DEPTH_TEST);
         GL11.glEnable(GL11.GL_BLEND);
@@ -112,43 +235,24 @@ public class DeepLearnerHudRenderer extends Gui {
         int barY = y + 11;
 
         for (int i = 0; i < modelCount; i++) {
-            ItemStack modelStack = modelStacks.get(i);
-            DataModelInstance instance = new DataModelInstance(modelStack, i);
-
-            if (!instance.isValid()) {
-                LOG.warn("Model[{}] is not valid", i);
-                continue;
-            }
-
-            ModelTier tier = instance.getTier();
+            if (!validModels[i]) continue;
 
             // Draw progress bar background (89x12 at texture 0,0)
             this.drawTexturedModalRect(barX, barY + i * SPACING, 0, 0, 89, 12);
 
             // Draw progress fill
-            int fillWidth = 87;
-            if (!tier.isMax()) {
-                int prevData = instance.getTierData();
-                int currData = instance.getCurrentData();
-                int nextData = instance.getNextTierData();
-                if (nextData > prevData) {
-                    fillWidth = (int) (87.0F * (currData - prevData) / (nextData - prevData));
-                }
-                fillWidth = Math.max(0, Math.min(87, fillWidth));
-            }
-
-            if (fillWidth > 0) {
-                this.drawTexturedModalRect(barX + 1, barY + i * SPACING + 1, 0, 12, fillWidth, 10);
+            if (fillWidths[i] > 0) {
+                this.drawTexturedModalRect(barX + 1, barY + i * SPACING + 1, 0, 12, fillWidths[i], 10);
             }
         }
 
         GL11.glDisable(GL11.GL_BLEND);
 
         // Render items with entity models
-        renderModelItems(mc, x, y, modelStacks);
+        renderModelItems(x, y);
 
         // Draw text
-        renderText(mc, x, y, modelStacks);
+        renderText(mc, x, y);
     }
 
     /**
@@ -258,24 +362,15 @@ public class DeepLearnerHudRenderer extends Gui {
      * Render the data model items with entity rendering.
      * Directly calls DataModelItemRenderer to render entities.
      */
-    private void renderModelItems(Minecraft mc, int x, int y, List<ItemStack> modelStacks) {
+    private void renderModelItems(int x, int y) {
         int itemX = x + 1;
         int itemY = y + 9;
 
-        // Get the custom renderer
-        DataModelItemRenderer customRenderer = new DataModelItemRenderer();
-
         // Save ALL GL state before rendering entities to prevent lighting leakage
         GL11.glPushAttrib(GL11.GL_ALL_ATTRIB_BITS);
 
-        for (int i = 0; i < modelStacks.size(); i++) {
-            ItemStack modelStack = modelStacks.get(i);
-            DataModelInstance instance = new DataModelInstance(modelStack, i);
-
-            if (!instance.isValid()) {
-                LOG.warn("renderModelItems: Model[{}] is not valid, skipping", i);
-                continue;
-            }
+        for (int i = 0; i < modelCount; i++) {
+            if (!validModels[i]) continue;
 
             GL11.glPushMatrix();
 
@@ -288,7 +383,7 @@ public class DeepLearnerHudRenderer extends Gui {
             GL11.glRotatef(90.0F, 0.0F, 1.0F, 0.0F);
 
             // Lighting is handled inside renderForHud -> renderTrophy
-            customRenderer.renderForHud(modelStack);
+            MODEL_RENDERER.renderForHud(modelStacks[i], entityIds[i], modelScales[i]);
 
             GL11.glPopMatrix();
         }
@@ -302,42 +397,24 @@ public class DeepLearnerHudRenderer extends Gui {
     /**
      * Render text labels for each data model.
      */
-    private void renderText(Minecraft mc, int x, int y, List<ItemStack> modelStacks) {
+    private void renderText(Minecraft mc, int x, int y) {
         GL11.glEnable(GL11.GL_BLEND);
         GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
 
         FontRenderer font = mc.fontRenderer;
 
-        for (int i = 0; i < modelStacks.size(); i++) {
-            ItemStack modelStack = modelStacks.get(i);
-            DataModelInstance instance = new DataModelInstance(modelStack, i);
-
-            if (!instance.isValid()) continue;
+        for (int i = 0; i < modelCount; i++) {
+            if (!validModels[i]) continue;
 
-            ModelTier tier = instance.getTier();
             int textY = y + SPACING * i;
 
-            // Draw tier name with color
-            String tierName = tier.getColoredName();
-            font.drawStringWithShadow(tierName, x + 2, textY, 0xFFFFFF);
-
-            // Draw "Model" label
-            String modelLabel = StatCollector.translateToLocal("hostilenetworks.hud.model");
-            if (modelLabel.equals("hostilenetworks.hud.model")) {
-                modelLabel = " Model";
-            }
-            String tierNamePlain = tier.getDisplayName();
-            int tierWidth = font.getStringWidth(tierNamePlain);
-            font.drawStringWithShadow(modelLabel, x + 2 + tierWidth, textY, 0xCCCCCC);
+            // Draw tier name with color, followed by the "Model" label
+            font.drawStringWithShadow(tierNames[i], x + 2, textY, 0xFFFFFF);
+            font.drawStringWithShadow(modelLabel, x + 2 + modelLabelOffsets[i], textY, 0xCCCCCC);
 
             // Draw kills needed if not max tier
-            if (!tier.isMax()) {
-                String killsLabel = StatCollector.translateToLocal("hostilenetworks.hud.kills");
-                if (killsLabel.equals("hostilenetworks.hud.kills")) {
-                    killsLabel = "%s kills";
-                }
-                String killsText = String.format(killsLabel, instance.getKillsNeeded());
-                font.drawStringWithShadow(killsText, x + 21, textY + 13, 0xCCCCCC);
+            if (killsTexts[i] != null) {
+                font.drawStringWithShadow(killsTexts[i], x + 21, textY + 13, 0xCCCCCC);
             }
         }
 
@@ -345,34 +422,10 @@ public class DeepLearnerHudRenderer extends Gui {
     }
 
     private static boolean isChatScreen(Minecraft mc) {
-        return mc.currentScreen != null && mc.currentScreen.getClass()
-            .getSimpleName()
-            .equals("GuiChat");
+        return mc.currentScreen != null && mc.currentScreen.getClass() == GuiChat.class;
     }
 
     private static boolean isDeepLearner(ItemStack stack) {
         return stack != null && stack.getItem() == HostileItems.deep_learner;
     }
-
-    private static List<ItemStack> getModelStacks(ItemStack deepLearnerStack) {
-        List<ItemStack> models = new ArrayList<>(Constants.DEEP_LEARNER_SLOTS);
-
-        for (int i = 0; i < Constants.DEEP_LEARNER_SLOTS; i++) {
-            String entityId = DeepLearnerItem.getModelAt(deepLearnerStack, i);
-            if (entityId == null || entityId.isEmpty()) continue;
-
-            ItemStack modelStack = new ItemStack(HostileItems.data_model);
-            if (!modelStack.hasTagCompound()) {
-                modelStack.setTagCompound(new net.minecraft.nbt.NBTTagCompound());
-            }
-            modelStack.getTagCompound()
-                .setString(NBTKeys.ENTITY_ID, entityId);
-            modelStack.getTagCompound()
-                .setInteger(NBTKeys.CURRENT_DATA, DeepLearnerItem.getModelData(deepLearnerStack, i));
-
-            models.add(modelStack);
-        }
-
-        return models;
-    }
 }
@@ -16,6 +16,7 @@ import dev.shadowsoffire.hostilenetworks.HostileConfig;
 import dev.shadowsoffire.hostilenetworks.HostileNetworksEvents;
 import dev.shadowsoffire.hostilenetworks.container.LootFabContainer;
 import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.net.LootFabSelectionMessage;
 import dev.shadowsoffire.hostilenetworks.tile.LootFabTileEntity;
 
 /**
@@ -219,8 +220,8 @@ public class LootFabGui extends GuiContainer {
             int x = guiLeft + 18 + (gridIndex % 3) * 18;
             int y = guiTop + 10 + (gridIndex / 3) * 18;
 
-            // Check if this drop is currently selected
-            if (selection == i) {
+            // Check if this drop is currently selected or part of the weighted schedule
+            if (selection == i || this.container.getScheduleWeight(i) > 0) {
                 // Render selection highlight
                 mc.getTextureManager()
                     .bindTexture(TEXTURE);
@@ -281,6 +282,19 @@ public class LootFabGui extends GuiContainer {
             int startIndex = this.currentPage * 9;
             int endIndex = Math.min(startIndex + 9, drops.size());
 
+            // Render schedule weights in the corner of each scheduled drop
+            GL11.glDisable(GL11.GL_LIGHTING);
+            GL11.glDisable(GL11.GL_DEPTH_TEST);
+            for (int i = startIndex; i < endIndex; i++) {
+                int weight = this.container.getScheduleWeight(i);
+                if (weight <= 0) continue;
+                int gridIndex = i - startIndex;
+                String text = String.valueOf(weight);
+                int x = 18 + (gridIndex % 3) * 18 + 17 - mc.fontRenderer.getStringWidth(text);
+                int y = 10 + (gridIndex / 3) * 18 + 9;
+                mc.fontRenderer.drawStringWithShadow(text, x, y, 0xFFFF55);
+            }
+
             for (int i = startIndex; i < endIndex; i++) {
                 int gridIndex = i - startIndex;
                 int x = 18 + (gridIndex % 3) * 18;
@@ -304,6 +318,12 @@ public class LootFabGui extends GuiContainer {
                         tooltip.add(String.format(countText, hoverStack.stackSize));
                     }
 
+                    int weight = this.container.getScheduleWeight(i);
+                    if (weight > 0) {
+                        tooltip.add(StatCollector.translateToLocalFormatted("hostilenetworks.gui.schedule_weight", weight));
+                    }
+                    tooltip.add(StatCollector.translateToLocal("hostilenetworks.gui.schedule_hint"));
+
                     this.drawHoveringText(tooltip, mouseX - this.guiLeft, mouseY - this.guiTop, this.mc.fontRenderer);
                     break;
                 }
@@ -360,6 +380,17 @@ public class LootFabGui extends GuiContainer {
             int y = this.guiTop + 10 + (gridIndex / 3) * 18;
 
             if (mouseX >= x && mouseX < x + 16 && mouseY >= y && mouseY < y + 16) {
+                // Shift-click adds schedule weight, right-click removes it
+                if (button == 1 || isShiftKeyDown()) {
+                    HostileNetworksEvents.sendLootFabScheduleChange(
+                        this.tile.xCoord,
+                        this.tile.yCoord,
+                        this.tile.zCoord,
+                        i,
+                        button == 1 ? LootFabSelectionMessage.MODE_REMOVE_WEIGHT
+                            : LootFabSelectionMessage.MODE_ADD_WEIGHT);
+                    return;
+                }
                 // Update local selection immediately (optimistic UI)
                 this.container.setLocalSelection(i);
                 // Send selection to server
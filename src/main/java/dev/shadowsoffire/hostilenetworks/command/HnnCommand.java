@@ -0,0 +1,387 @@
+package dev.shadowsoffire.hostilenetworks.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.util.ChatComponentTranslation;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.HostileNetworks;
+import dev.shadowsoffire.hostilenetworks.tile.MachineProfiler;
+import dev.shadowsoffire.hostilenetworks.tile.SimChamberTileEntity;
+import dev.shadowsoffire.hostilenetworks.tile.SimChamberTileEntity.FailureState;
+import dev.shadowsoffire.hostilenetworks.tile.StallTracker;
+import dev.shadowsoffire.hostilenetworks.tile.TickGovernor;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
+
+/**
+ * Server administration command for Hostile Neural Networks.
+ *
+ * Subcommands:
+ * - profile start - Start sampling machine tick times
+ * - profile stop - Stop sampling, keeping the results
+ * - profile dump [count] - Print the most expensive machines and write the full report to CSV
+ * - metrics [dump] - Print production counters, optionally writing them to metrics.json
+ * - stalls [minutes] [count] - List the Simulation Chambers that stalled most over a recent window, and why
+ * - governor - Show the server load and how much the machines are being throttled
+ */
+public class HnnCommand extends CommandBase {
+
+    @Override
+    public String getCommandName() {
+        return "hnn";
+    }
+
+    @Override
+    public List<String> getCommandAliases() {
+        return Arrays.asList("hostilenetworks");
+    }
+
+    @Override
+    public String getCommandUsage(ICommandSender sender) {
+        return "hnn <profile|metrics|stalls|governor> [args] - Hostile Neural Networks server tools";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2; // OP level 2
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] args) {
+        if (args.length < 1) {
+            sender.addChatMessage(new ChatComponentTranslation("commands.hnn.usage"));
+            return;
+        }
+
+        String subcommand = args[0].toLowerCase();
+
+        switch (subcommand) {
+            case "profile":
+                handleProfile(sender, args);
+                break;
+            case "metrics":
+                handleMetrics(sender, args);
+                break;
+            case "stalls":
+                handleStalls(sender, args);
+                break;
+            case "governor":
+                handleGovernor(sender);
+                break;
+            default:
+                sender.addChatMessage(new ChatComponentTranslation("commands.hnn.unknown_subcommand", subcommand));
+                sender.addChatMessage(new ChatComponentTranslation("commands.hnn.usage"));
+                break;
+        }
+    }
+
+    // ==================== Profiler ====================
+
+    /**
+     * Usage: /hnn profile <start|stop|dump> [count]
+     */
+    private void handleProfile(ICommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.addChatMessage(new ChatComponentTranslation("commands.hnn.profile.usage"));
+            return;
+        }
+
+        switch (args[1].toLowerCase()) {
+            case "start":
+                MachineProfiler.start();
+                sender.addChatMessage(
+                    new ChatComponentTranslation(
+                        "commands.hnn.profile.started",
+                        String.valueOf(HostileConfig.profilerSampleInterval)));
+                break;
+            case "stop":
+                if (!MachineProfiler.isRunning()) {
+                    sender.addChatMessage(new ChatComponentTranslation("commands.hnn.profile.not_running"));
+                    return;
+                }
+                MachineProfiler.stop();
+                sender.addChatMessage(
+                    new ChatComponentTranslation(
+                        "commands.hnn.profile.stopped",
+                        formatSeconds(MachineProfiler.getSessionMillis())));
+                break;
+            case "dump":
+                int count = HostileConfig.profilerTopN;
+                if (args.length >= 3) {
+                    count = parseIntBounded(sender, args[2], 1, 100);
+                }
+                dumpProfile(sender, count);
+                break;
+            default:
+                sender.addChatMessage(new ChatComponentTranslation("commands.hnn.profile.usage"));
+                break;
+        }
+    }
+
+    private void dumpProfile(ICommandSender sender, int count) {
+        List<MachineProfiler.MachineStats> machines = MachineProfiler.getMachinesByCost();
+        if (machines.isEmpty()) {
+            sender.addChatMessage(new ChatComponentTranslation("commands.hnn.profile.empty"));
+            return;
+        }
+
+        sender.addChatMessage(
+            new ChatComponentTranslation(
+                "commands.hnn.profile.header",
+                String.valueOf(Math.min(count, machines.size())),
+                String.valueOf(machines.size()),
+                formatSeconds(MachineProfiler.getSessionMillis())));
+        for (int i = 0; i < count && i < machines.size(); i++) {
+            MachineProfiler.MachineStats stats = machines.get(i);
+            sender.addChatMessage(
+                new ChatComponentTranslation(
+                    "commands.hnn.profile.entry",
+                    String.valueOf(i + 1),
+                    stats.type,
+                    String.valueOf(stats.dimension),
+                    stats.x + ", " + stats.y + ", " + stats.z,
+                    formatMicros(stats.getAverageNanos()),
+                    formatMicros(stats.maxNanos),
+                    String.valueOf(stats.samples)));
+        }
+
+        for (MachineProfiler.AggregateStats dimension : MachineProfiler.getDimensionsByCost()) {
+            sender.addChatMessage(
+                new ChatComponentTranslation(
+                    "commands.hnn.profile.dimension",
+                    String.valueOf(dimension.dimension),
+                    String.valueOf(dimension.machines),
+                    formatMicros(dimension.samples > 0 ? dimension.totalNanos / dimension.samples : 0)));
+        }
+
+        try {
+            File file = MachineProfiler.writeCsv();
+            sender.addChatMessage(new ChatComponentTranslation("commands.hnn.profile.written", file.getPath()));
+        } catch (IOException e) {
+            HostileNetworks.LOG.error("Failed to write machine profile", e);
+            sender.addChatMessage(new ChatComponentTranslation("commands.hnn.profile.write_failed", e.getMessage()));
+        }
+    }
+
+    // ==================== Metrics ====================
+
+    /**
+     * Usage: /hnn metrics [dump]
+     */
+    private void handleMetrics(ICommandSender sender, String[] args) {
+        sender.addChatMessage(
+            new ChatComponentTranslation(
+                "commands.hnn.metrics.header",
+                formatSeconds(System.currentTimeMillis() - HostileMetrics.getStartedAt())));
+        for (HostileMetrics.Counter counter : HostileMetrics.Counter.values()) {
+            sender.addChatMessage(
+                new ChatComponentTranslation(
+                    "commands.hnn.metrics.entry",
+                    new ChatComponentTranslation("commands.hnn.metrics." + counter.getKey()),
+                    String.valueOf(counter.get())));
+        }
+
+        if (args.length >= 2 && "dump".equalsIgnoreCase(args[1])) {
+            try {
+                File file = HostileMetrics.writeJson();
+                sender.addChatMessage(new ChatComponentTranslation("commands.hnn.metrics.written", file.getPath()));
+            } catch (IOException e) {
+                HostileNetworks.LOG.error("Failed to write metrics", e);
+                sender.addChatMessage(
+                    new ChatComponentTranslation("commands.hnn.metrics.write_failed", e.getMessage()));
+            }
+        }
+    }
+
+    // ==================== Stalls ====================
+
+    /**
+     * Usage: /hnn stalls [minutes] [count]
+     */
+    private void handleStalls(ICommandSender sender, String[] args) {
+        int minutes = args.length >= 2 ? parseIntBounded(sender, args[1], 1, StallTracker.MAX_WINDOW_MINUTES) : 10;
+        int count = args.length >= 3 ? parseIntBounded(sender, args[2], 1, 100) : HostileConfig.profilerTopN;
+
+        FailureState[] states = FailureState.values();
+        List<SimChamberTileEntity> chambers = StallTracker.getTrackedChambers();
+        List<StallEntry> stalled = new ArrayList<>();
+        int[] reasonChambers = new int[states.length];
+
+        for (SimChamberTileEntity chamber : chambers) {
+            StallTracker tracker = chamber.getStallTracker();
+            if (tracker == null) continue;
+
+            int[] ticks = new int[states.length];
+            tracker.getTicks(
+                chamber.getWorldObj()
+                    .getTotalWorldTime(),
+                minutes,
+                ticks);
+
+            int total = 0;
+            int stalledTicks = 0;
+            int worst = -1;
+            for (int i = 0; i < states.length; i++) {
+                total += ticks[i];
+                if (StallTracker.isStall(states[i]) && ticks[i] > 0) {
+                    stalledTicks += ticks[i];
+                    if (worst < 0 || ticks[i] > ticks[worst]) {
+                        worst = i;
+                    }
+                }
+            }
+            if (stalledTicks > 0) {
+                stalled.add(new StallEntry(chamber, ticks, total, stalledTicks));
+                reasonChambers[worst]++;
+            }
+        }
+
+        if (stalled.isEmpty()) {
+            sender.addChatMessage(
+                new ChatComponentTranslation(
+                    "commands.hnn.stalls.none",
+                    String.valueOf(chambers.size()),
+                    String.valueOf(minutes)));
+            return;
+        }
+
+        sender.addChatMessage(
+            new ChatComponentTranslation(
+                "commands.hnn.stalls.header",
+                String.valueOf(stalled.size()),
+                String.valueOf(chambers.size()),
+                String.valueOf(minutes)));
+        for (int i = 0; i < states.length; i++) {
+            if (reasonChambers[i] > 0) {
+                sender.addChatMessage(
+                    new ChatComponentTranslation(
+                        "commands.hnn.stalls.reason",
+                        getStallReason(states[i]),
+                        String.valueOf(reasonChambers[i])));
+            }
+        }
+
+        stalled.sort((a, b) -> Integer.compare(b.stalledTicks, a.stalledTicks));
+        for (int i = 0; i < count && i < stalled.size(); i++) {
+            StallEntry entry = stalled.get(i);
+            SimChamberTileEntity chamber = entry.chamber;
+
+            ChatComponentTranslation reasons = null;
+            for (int s = 0; s < states.length; s++) {
+                if (!StallTracker.isStall(states[s]) || entry.ticks[s] == 0) continue;
+                ChatComponentTranslation part = new ChatComponentTranslation(
+                    "commands.hnn.stalls.share",
+                    getStallReason(states[s]),
+                    formatPercent(entry.ticks[s], entry.total));
+                if (reasons == null) {
+                    reasons = part;
+                } else {
+                    reasons.appendText(", ")
+                        .appendSibling(part);
+                }
+            }
+
+            sender.addChatMessage(
+                new ChatComponentTranslation(
+                    "commands.hnn.stalls.entry",
+                    String.valueOf(i + 1),
+                    String.valueOf(chamber.getWorldObj().provider.dimensionId),
+                    chamber.xCoord + ", " + chamber.yCoord + ", " + chamber.zCoord,
+                    formatPercent(entry.stalledTicks, entry.total),
+                    reasons));
+        }
+    }
+
+    // ==================== Governor ====================
+
+    /**
+     * Usage: /hnn governor
+     */
+    private void handleGovernor(ICommandSender sender) {
+        double mspt = TickGovernor.getMeanTickMillis();
+        String tps = String.format("%.1f", Math.min(20.0, mspt > 0 ? 1000.0 / mspt : 20.0));
+        if (!HostileConfig.governorEnabled) {
+            sender.addChatMessage(
+                new ChatComponentTranslation("commands.hnn.governor.disabled", String.format("%.1f", mspt), tps));
+            return;
+        }
+        sender.addChatMessage(
+            new ChatComponentTranslation(
+                "commands.hnn.governor.status",
+                String.format("%.1f", mspt),
+                tps,
+                String.valueOf(TickGovernor.getStride())));
+        sender.addChatMessage(
+            new ChatComponentTranslation(
+                "commands.hnn.governor.limits",
+                String.valueOf(HostileConfig.governorSoftLimitMs),
+                String.valueOf(HostileConfig.governorHardLimitMs),
+                String.valueOf(HostileConfig.governorMaxStride)));
+        int catchUp = TickGovernor.getCatchUpTicks();
+        sender.addChatMessage(
+            catchUp > 0 ? new ChatComponentTranslation("commands.hnn.governor.catch_up", String.valueOf(catchUp))
+                : new ChatComponentTranslation(
+                    "commands.hnn.governor.no_catch_up",
+                    String.valueOf(HostileConfig.governorSoftLimitMs - HostileConfig.governorCatchUpMarginMs)));
+        sender.addChatMessage(
+            new ChatComponentTranslation(
+                "commands.hnn.governor.debt",
+                String.valueOf(TickGovernor.getDeferredTicks()),
+                String.valueOf(TickGovernor.getRepaidTicks()),
+                String.valueOf(TickGovernor.getForgivenTicks())));
+    }
+
+    private static ChatComponentTranslation getStallReason(FailureState state) {
+        return new ChatComponentTranslation(
+            "commands.hnn.stalls.state." + state.name()
+                .toLowerCase());
+    }
+
+    private static String formatPercent(int part, int total) {
+        return String.format("%.0f", total > 0 ? part * 100.0 / total : 0.0);
+    }
+
+    /**
+     * Stall totals of a single chamber over the queried window.
+     */
+    private static final class StallEntry {
+
+        final SimChamberTileEntity chamber;
+        final int[] ticks;
+        final int total;
+        final int stalledTicks;
+
+        StallEntry(SimChamberTileEntity chamber, int[] ticks, int total, int stalledTicks) {
+            this.chamber = chamber;
+            this.ticks = ticks;
+            this.total = total;
+            this.stalledTicks = stalledTicks;
+        }
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+
+    private static String formatSeconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+
+    @Override
+    public List<String> addTabCompletionOptions(ICommandSender sender, String[] args) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "profile", "metrics", "stalls", "governor");
+        } else if (args.length == 2 && "profile".equalsIgnoreCase(args[0])) {
+            return getListOfStringsMatchingLastWord(args, "start", "stop", "dump");
+        } else if (args.length == 2 && "metrics".equalsIgnoreCase(args[0])) {
+            return getListOfStringsMatchingLastWord(args, "dump");
+        }
+        return null;
+    }
+}
@@ -54,15 +54,8 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
     @Override
     public void loadCraftingRecipes(String outputId, Object... results) {
         if ("hostilenetworks.loot_fabricator".equals(outputId) && getClass() == LootFabRecipeHandler.class) {
-            for (DataModel model : DataModelRegistry.getAll()) {
-                // Skip disabled models
-                if (!HostileConfig.isModelEnabled(model.getEntityId())) {
-                    continue;
-                }
-                List<ItemStack> drops = model.getFabricatorDrops();
-                for (int i = 0; i < drops.size(); i++) {
-                    this.arecipes.add(new CachedLootFabRecipe(model, i));
-                }
+            for (NEIRecipeIndex.DropRef ref : NEIRecipeIndex.getAllFabricatorDrops()) {
+                addRecipe(ref);
             }
         } else {
             super.loadCraftingRecipes(outputId, results);
@@ -71,23 +64,24 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
 
     @Override
     public void loadCraftingRecipes(ItemStack result) {
-        for (DataModel model : DataModelRegistry.getAll()) {
-            // Skip disabled models
-            if (!HostileConfig.isModelEnabled(model.getEntityId())) {
-                continue;
-            }
-            List<ItemStack> drops = model.getFabricatorDrops();
-            for (int i = 0; i < drops.size(); i++) {
-                ItemStack drop = drops.get(i);
-                if (drop != null && areStacksSameType(drop, result)) {
-                    this.arecipes.add(new CachedLootFabRecipe(model, i));
-                }
-            }
+        // Indexed by item + meta, so only the models that actually drop this item are visited
+        for (NEIRecipeIndex.DropRef ref : NEIRecipeIndex.getFabricatorDrops(result)) {
+            addRecipe(ref);
         }
     }
 
-    private boolean areStacksSameType(ItemStack stack1, ItemStack stack2) {
-        return stack1.getItem() == stack2.getItem() && stack1.getItemDamage() == stack2.getItemDamage();
+    /**
+     * Add a recipe for an indexed fabricator drop, skipping disabled models.
+     */
+    private void addRecipe(NEIRecipeIndex.DropRef ref) {
+        // Skip disabled models
+        if (!HostileConfig.isModelEnabled(ref.entityId)) {
+            return;
+        }
+        DataModel model = DataModelRegistry.get(ref.entityId);
+        if (model != null) {
+            this.arecipes.add(new CachedLootFabRecipe(model, ref.dropIndex));
+        }
     }
 
     @Override
@@ -167,12 +161,28 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
         tessellator.draw();
     }
 
+    /**
+     * A single fabricator drop recipe.
+     * The positioned stacks are only built once NEI actually displays the recipe,
+     * so listing every drop of every model stays cheap.
+     */
     public class CachedLootFabRecipe extends CachedRecipe {
 
-        private final PositionedStack input;
-        private final PositionedStack output;
+        private final DataModel model;
+        private final int dropIndex;
+        private boolean initialized;
+        private PositionedStack input;
+        private PositionedStack output;
 
         public CachedLootFabRecipe(DataModel model, int dropIndex) {
+            this.model = model;
+            this.dropIndex = dropIndex;
+        }
+
+        private void ensureInitialized() {
+            if (initialized) return;
+            initialized = true;
+
             // Input: Prediction Item - relative to background at (9, 7), plus center offset (32, 18) = (41, 25)
             ItemStack predictionStack = model.createPredictionItem();
             if (predictionStack != null && predictionStack.getItem() != null) {
@@ -180,8 +190,6 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
                 predictionCopy.stackSize = 1;
                 this.input = new PositionedStack(predictionCopy, 41, 25);
                 this.input.setMaxSize(1);
-            } else {
-                this.input = null;
             }
 
             // Output: Specific fabricator drop - relative to background at (79, 7), plus offset = (111, 25)
@@ -192,13 +200,12 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
                 // Keep original stack size to show in NEI
                 this.output = new PositionedStack(drop, 111, 25);
                 this.output.setMaxSize(64);
-            } else {
-                this.output = null;
             }
         }
 
         @Override
         public List<PositionedStack> getIngredients() {
+            ensureInitialized();
             List<PositionedStack> list = new ArrayList<>();
             if (input != null) list.add(input);
             return list;
@@ -206,6 +213,7 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
 
         @Override
         public List<PositionedStack> getOtherStacks() {
+            ensureInitialized();
             List<PositionedStack> list = new ArrayList<>();
             if (input != null) list.add(input);
             if (output != null) list.add(output);
@@ -214,6 +222,7 @@ public class LootFabRecipeHandler extends TemplateRecipeHandler {
 
         @Override
         public PositionedStack getResult() {
+            ensureInitialized();
             return output;
         }
     }
@@ -0,0 +1,154 @@
+package dev.shadowsoffire.hostilenetworks.compatibility.nei;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
+
+/**
+ * Inverted index from item + meta to the data models that produce it.
+ * Lets the NEI handlers answer R/U lookups without scanning every model and drop.
+ * Rebuilt lazily whenever the model registry or the config (drop overrides) changes. Safe to query from any thread.
+ */
+final class NEIRecipeIndex {
+
+    /**
+     * A single fabricator drop of a model.
+     */
+    static final class DropRef {
+
+        final String entityId;
+        final int dropIndex;
+
+        DropRef(String entityId, int dropIndex) {
+            this.entityId = entityId;
+            this.dropIndex = dropIndex;
+        }
+    }
+
+    /**
+     * One complete build of the index. Never modified after construction, so lookups can share it across threads.
+     */
+    private static final class Snapshot {
+
+        final Map<Long, List<DropRef>> fabricatorDrops;
+        final List<DropRef> allFabricatorDrops;
+        final Map<Long, List<String>> baseDrops;
+        final int configGeneration;
+        final int registryGeneration;
+
+        Snapshot(Map<Long, List<DropRef>> fabricatorDrops, List<DropRef> allFabricatorDrops,
+            Map<Long, List<String>> baseDrops, int configGeneration, int registryGeneration) {
+            this.fabricatorDrops = fabricatorDrops;
+            this.allFabricatorDrops = allFabricatorDrops;
+            this.baseDrops = baseDrops;
+            this.configGeneration = configGeneration;
+            this.registryGeneration = registryGeneration;
+        }
+
+        boolean isCurrent() {
+            return this.configGeneration == HostileConfig.getGeneration()
+                && this.registryGeneration == DataModelRegistry.getGeneration();
+        }
+    }
+
+    // NEI can query handlers from several threads, so a rebuild is published as a whole new snapshot
+    private static volatile Snapshot snapshot;
+
+    private NEIRecipeIndex() {}
+
+    /**
+     * Get every fabricator drop matching the given stack's item and meta.
+     */
+    static List<DropRef> getFabricatorDrops(ItemStack stack) {
+        List<DropRef> refs = get().fabricatorDrops.get(key(stack));
+        return refs != null ? refs : Collections.<DropRef>emptyList();
+    }
+
+    /**
+     * Get every fabricator drop of every registered model, in registry order.
+     */
+    static List<DropRef> getAllFabricatorDrops() {
+        return get().allFabricatorDrops;
+    }
+
+    /**
+     * Get the entity IDs of all models whose simulation base drop matches the given stack.
+     */
+    static List<String> getModelsWithBaseDrop(ItemStack stack) {
+        List<String> ids = get().baseDrops.get(key(stack));
+        return ids != null ? ids : Collections.<String>emptyList();
+    }
+
+    private static long key(ItemStack stack) {
+        return ((long) Item.getIdFromItem(stack.getItem()) << 32) | (stack.getItemDamage() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the current snapshot, building a new one if the registry or config changed. Concurrent callers may each
+     * build one; the last to finish is kept, and every caller gets a complete index.
+     */
+    private static Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null && current.isCurrent()) {
+            return current;
+        }
+        current = build();
+        snapshot = current;
+        return current;
+    }
+
+    private static Snapshot build() {
+        // Read the generations first, so a change during the build leaves the snapshot stale rather than current
+        int configGeneration = HostileConfig.getGeneration();
+        int registryGeneration = DataModelRegistry.getGeneration();
+
+        Map<Long, List<DropRef>> fabricatorDrops = new HashMap<>();
+        List<DropRef> allFabricatorDrops = new ArrayList<>();
+        Map<Long, List<String>> baseDrops = new HashMap<>();
+
+        for (String entityId : DataModelRegistry.getIds()) {
+            DataModel model = DataModelRegistry.get(entityId);
+            if (model == null) continue;
+
+            List<ItemStack> drops = model.getFabricatorDrops();
+            for (int i = 0; i < drops.size(); i++) {
+                DropRef ref = new DropRef(entityId, i);
+                allFabricatorDrops.add(ref);
+                ItemStack drop = drops.get(i);
+                if (drop != null && drop.getItem() != null) {
+                    fabricatorDrops.computeIfAbsent(key(drop), k -> new ArrayList<>())
+                        .add(ref);
+                }
+            }
+
+            ItemStack baseDrop = model.getBaseDrop();
+            if (baseDrop != null && baseDrop.getItem() != null) {
+                baseDrops.computeIfAbsent(key(baseDrop), k -> new ArrayList<>())
+                    .add(entityId);
+            }
+        }
+
+        return new Snapshot(
+            freeze(fabricatorDrops),
+            Collections.unmodifiableList(allFabricatorDrops),
+            freeze(baseDrops),
+            configGeneration,
+            registryGeneration);
+    }
+
+    private static <T> Map<Long, List<T>> freeze(Map<Long, List<T>> map) {
+        for (Map.Entry<Long, List<T>> entry : map.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -97,24 +97,20 @@ public class SimChamberRecipeHandler extends TemplateRecipeHandler {
             // Data models have no crafting recipes
             return;
         } else {
-            // Find recipes for this base drop
-            for (DataModel model : DataModelRegistry.getAll()) {
+            // Find recipes for this base drop, indexed by item + meta
+            for (String entityId : NEIRecipeIndex.getModelsWithBaseDrop(result)) {
                 // Skip disabled models
-                if (!HostileConfig.isModelEnabled(model.getEntityId())) {
+                if (!HostileConfig.isModelEnabled(entityId)) {
                     continue;
                 }
-                ItemStack baseDrop = model.getBaseDrop();
-                if (baseDrop != null && areStacksSameType(baseDrop, result)) {
+                DataModel model = DataModelRegistry.get(entityId);
+                if (model != null) {
                     this.arecipes.add(new CachedSimChamberRecipe(model));
                 }
             }
         }
     }
 
-    private boolean areStacksSameType(ItemStack stack1, ItemStack stack2) {
-        return stack1.getItem() == stack2.getItem() && stack1.getItemDamage() == stack2.getItemDamage();
-    }
-
     @Override
     public void loadUsageRecipes(ItemStack ingredient) {
         if (ingredient.getItem() == HostileItems.data_model) {
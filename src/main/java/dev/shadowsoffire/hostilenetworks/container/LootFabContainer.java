@@ -215,6 +215,7 @@ public class LootFabContainer extends Container {
             lastSentSelection = currentSelection;
             lastEnergySync = this.tile.getEnergyStored();
             lastProgressSync = this.tile.getProgress();
+            syncScheduleWeights(true);
             initialized = true;
             return;
         }
@@ -245,15 +246,45 @@ public class LootFabContainer extends Container {
             }
             lastProgressSync = currentProgress;
         }
+
+        syncScheduleWeights(false);
+    }
+
+    /**
+     * Sync the schedule weights of the first {@link #SYNCED_WEIGHTS} drops (progress bar IDs 3 and up).
+     */
+    private void syncScheduleWeights(boolean force) {
+        DataModel model = getCurrentDataModel();
+        for (int i = 0; i < SYNCED_WEIGHTS; i++) {
+            int weight = this.tile.getScheduleWeight(model, i);
+            if (force || weight != lastWeightSync[i]) {
+                for (ICrafting crafter : (java.util.List<ICrafting>) crafters) {
+                    crafter.sendProgressBarUpdate(this, 3 + i, weight);
+                }
+                lastWeightSync[i] = weight;
+            }
+        }
     }
 
     // Cached values for energy and progress sync (server side)
     private int lastEnergySync = -1;
     private int lastProgressSync = -1;
 
+    // Schedule weights are synced for this many drops, covering the GUI's first pages
+    private static final int SYNCED_WEIGHTS = 18;
+    private final int[] lastWeightSync = new int[SYNCED_WEIGHTS];
+
     // Synced values (client side stores received values here)
     private int syncedEnergy;
     private int syncedProgress;
+    private final int[] syncedWeights = new int[SYNCED_WEIGHTS];
+
+    /**
+     * Get the synced schedule weight of a drop, 0 if it is not part of a weighted schedule.
+     */
+    public int getScheduleWeight(int dropIndex) {
+        return dropIndex >= 0 && dropIndex < SYNCED_WEIGHTS ? syncedWeights[dropIndex] : 0;
+    }
 
     /**
      * Get the synced energy value (works on both client and server).
@@ -284,6 +315,9 @@ public class LootFabContainer extends Container {
         } else if (id == 2) {
             // Received progress from server
             this.syncedProgress = data;
+        } else if (id >= 3 && id < 3 + SYNCED_WEIGHTS) {
+            // Received a schedule weight from server
+            this.syncedWeights[id - 3] = data;
         }
     }
 }
@@ -481,11 +481,12 @@ public class DataModel {
      * @return The sim cost from config override, or the default value
      */
     public int getSimCostWithConfig() {
-        return getConfigValueWithDefault(
-            () -> HostileConfig.getModelConfig(entityId),
-            config -> config.hasSimCostOverride(),
-            config -> config.getSimCost(),
-            () -> this.simCost);
+        // Called every tick by running chambers, so avoid the lambda-based helper and its boxing
+        ModelConfig config = HostileConfig.getModelConfig(entityId);
+        if (config != null && config.hasSimCostOverride()) {
+            return config.getSimCost();
+        }
+        return this.simCost;
     }
 
     /**
@@ -31,6 +31,10 @@ public class DataModelRegistry {
     private static final Map<String, List<DataModel>> ENTITY_TO_MODELS = new HashMap<>();
     // Store resource paths for JSON files for faster loading
     private static final java.util.Map<String, java.net.URL> JSON_FILE_URLS = new java.util.HashMap<>();
+    // Lazily built sorted ids and index map, replaced as a whole so render, NEI and server threads see one table
+    private static volatile IndexTable indexTable;
+    // Bumped on every registry mutation so caches keyed on model data can invalidate
+    private static volatile int generation;
 
     /**
      * Check if an entity ID is a known variant of another entity.
@@ -65,6 +69,12 @@ public class DataModelRegistry {
         for (String variant : model.getVariants()) {
             addEntityMapping(variant, model);
         }
+
+        onRegistryChanged();
+    }
+
+    private static void onRegistryChanged() {
+        generation++;
     }
 
     private static void addEntityMapping(String entityId, DataModel model) {
@@ -106,6 +116,7 @@ public class DataModelRegistry {
     public static void init() {
         MODELS.clear();
         ENTITY_TO_MODELS.clear();
+        onRegistryChanged();
 
         // Initialize tiers first
         ModelTierRegistry.init();
@@ -425,10 +436,63 @@ public class DataModelRegistry {
     }
 
     /**
-     * Get all registered entity IDs.
+     * Get all registered entity IDs, sorted alphabetically.
+     * The returned list is shared and unmodifiable.
      */
     public static List<String> getIds() {
-        return Collections.unmodifiableList(new ArrayList<>(MODELS.keySet()));
+        return getIndexTable().ids;
+    }
+
+    /**
+     * Get the index of an entity ID within {@link #getIds()}, or -1 if it is not registered.
+     * <p>
+     * Indices only depend on the set of registered ids, never on registration or hash order, but adding or removing
+     * a model (for example through MobsInfo or a config change) shifts every index after it. Item damage values are
+     * derived from these indices for NEI, so stacks re-derive theirs from the entity id in their NBT when they tick in
+     * an inventory or are loaded into a machine; see {@link HostileItems#normalizeModelDamage(ItemStack)}.
+     */
+    public static int getIndex(String entityId) {
+        Integer index = getIndexTable().indices.get(entityId);
+        return index != null ? index : -1;
+    }
+
+    private static IndexTable getIndexTable() {
+        IndexTable table = indexTable;
+        if (table == null || table.generation != generation) {
+            table = new IndexTable();
+            indexTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Immutable sorted ids and their indices, as of one registry generation.
+     */
+    private static final class IndexTable {
+
+        final int generation;
+        final List<String> ids;
+        final Map<String, Integer> indices;
+
+        IndexTable() {
+            // Read the generation first, so a registration racing this build leaves the table stale, not wrong
+            this.generation = DataModelRegistry.generation;
+            List<String> sorted = new ArrayList<>(MODELS.keySet());
+            Collections.sort(sorted);
+            Map<String, Integer> table = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                table.put(sorted.get(i), i);
+            }
+            this.ids = Collections.unmodifiableList(sorted);
+            this.indices = Collections.unmodifiableMap(table);
+        }
+    }
+
+    /**
+     * Get the registry generation, incremented whenever models are registered or cleared.
+     */
+    public static int getGeneration() {
+        return generation;
     }
 
     /**
@@ -234,24 +234,28 @@ public class ModelTierRegistry {
         // If entityId is provided, use config-aware threshold calculation
         if (entityId != null) {
             DataModel model = DataModelRegistry.get(entityId);
-            if (model != null) {
-                // Check each tier from lowest to highest
-                for (ModelTier tier : TIERS) {
-                    int threshold = model.getCurrentTierThreshold(tier);
+            if (model != null && !TIERS.isEmpty()) {
+                // Check each tier from lowest to highest.
+                // Walk by index and carry the next tier's threshold forward, so each threshold
+                // is computed once and no indexOf lookup is needed per step.
+                int size = TIERS.size();
+                int threshold = model.getCurrentTierThreshold(TIERS.get(0));
+                for (int i = 0; i < size; i++) {
+                    ModelTier tier = TIERS.get(i);
                     if (data < threshold) {
                         // Return previous tier (handled by result variable)
                         break;
                     }
                     // Check if this is the max tier or if next tier threshold would exceed data
-                    ModelTier nextTier = getNextTier(tier);
-                    if (nextTier == tier) {
+                    if (i == size - 1) {
                         // This is the max tier
                         return tier;
                     }
-                    int nextThreshold = model.getCurrentTierThreshold(nextTier);
+                    int nextThreshold = model.getCurrentTierThreshold(TIERS.get(i + 1));
                     if (data < nextThreshold) {
                         return tier;
                     }
+                    threshold = nextThreshold;
                 }
             }
         }
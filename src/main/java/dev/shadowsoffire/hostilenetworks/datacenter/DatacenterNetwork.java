@@ -0,0 +1,284 @@
+package dev.shadowsoffire.hostilenetworks.datacenter;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.data.DataModelInstance;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
+import dev.shadowsoffire.hostilenetworks.tile.OutputBuffer;
+import dev.shadowsoffire.hostilenetworks.tile.SimulationRules;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
+
+/**
+ * One owner's virtual simulation chambers in the {@link SimDatacenter}.
+ * <p>
+ * Jobs are data models stored as plain arrays indexed by job number, sharing one energy pool, one matrix count and
+ * one output buffer. The scheduler visits a bounded number of jobs per tick; a visit catches the job up on every tick
+ * since its previous visit, limited by the energy and matrices available, so the result does not depend on how
+ * often a job is visited. A cycle is accounted exactly like a Simulation Chamber's: one tick to start, then
+ * {@link Constants#SIMULATION_TICKS} running ticks of which all but the completing one are charged.
+ */
+public final class DatacenterNetwork {
+
+    private static final Random RANDOM = new Random();
+
+    private final String owner;
+
+    private ItemStack[] jobs = new ItemStack[8];
+    private int[] runtime = new int[8];
+    private int[] predictions = new int[8];
+    // World time of each job's last visit, not saved; jobs resume from the load time
+    private long[] lastVisit = new long[8];
+    // Resolved models, rebuilt lazily; never saved
+    private DataModelInstance[] models = new DataModelInstance[8];
+    private int jobCount;
+    private int cursor;
+
+    private long energy;
+    private long matrices;
+    private final OutputBuffer outputs = new OutputBuffer();
+
+    DatacenterNetwork(String owner) {
+        this.owner = owner;
+    }
+
+    public String getOwner() {
+        return this.owner;
+    }
+
+    // ==================== Terminal access ====================
+
+    /**
+     * Add a data model as a new job.
+     *
+     * @return Whether the job was added; false once {@link HostileConfig#datacenterMaxJobs} is reached
+     */
+    public boolean addJob(ItemStack model, long now) {
+        if (this.jobCount >= HostileConfig.datacenterMaxJobs) {
+            return false;
+        }
+        ensureCapacity();
+        int i = this.jobCount++;
+        this.jobs[i] = model;
+        this.runtime[i] = 0;
+        this.predictions[i] = 0;
+        this.lastVisit[i] = now;
+        this.models[i] = null;
+        return true;
+    }
+
+    private void ensureCapacity() {
+        if (this.jobCount < this.jobs.length) return;
+        int size = this.jobs.length * 2;
+        this.jobs = Arrays.copyOf(this.jobs, size);
+        this.runtime = Arrays.copyOf(this.runtime, size);
+        this.predictions = Arrays.copyOf(this.predictions, size);
+        this.lastVisit = Arrays.copyOf(this.lastVisit, size);
+        this.models = Arrays.copyOf(this.models, size);
+    }
+
+    /**
+     * Remove the most recently added job and return its model. The running cycle is lost.
+     */
+    public ItemStack removeLastJob() {
+        if (this.jobCount == 0) {
+            return null;
+        }
+        int i = --this.jobCount;
+        ItemStack model = this.jobs[i];
+        this.jobs[i] = null;
+        this.models[i] = null;
+        return model;
+    }
+
+    public int getJobCount() {
+        return this.jobCount;
+    }
+
+    public int getRunningJobs() {
+        int count = 0;
+        for (int i = 0; i < this.jobCount; i++) {
+            if (this.runtime[i] > 0) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Store energy, up to {@link HostileConfig#datacenterPowerCap}.
+     *
+     * @return The energy accepted
+     */
+    public int receiveEnergy(int amount, boolean simulate) {
+        int accepted = (int) Math.max(0, Math.min(amount, HostileConfig.datacenterPowerCap - this.energy));
+        if (!simulate) {
+            this.energy += accepted;
+        }
+        return accepted;
+    }
+
+    public long getEnergy() {
+        return this.energy;
+    }
+
+    public void addMatrices(int amount) {
+        this.matrices += amount;
+    }
+
+    public long getMatrices() {
+        return this.matrices;
+    }
+
+    /**
+     * Get the buffer finished simulations are collected in. Terminals drain it into their output slots.
+     */
+    public OutputBuffer getOutputs() {
+        return this.outputs;
+    }
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Visit up to {@code budget} jobs, continuing from where the previous call stopped.
+     *
+     * @return The number of jobs visited
+     */
+    int tick(long now, int budget) {
+        int visits = Math.min(budget, this.jobCount);
+        for (int v = 0; v < visits; v++) {
+            if (this.cursor >= this.jobCount) {
+                this.cursor = 0;
+            }
+            visit(this.cursor++, now);
+        }
+        return visits;
+    }
+
+    /**
+     * Advance a job by the ticks elapsed since its last visit.
+     */
+    private void visit(int i, long now) {
+        int elapsed = (int) Math.min(Integer.MAX_VALUE, now - this.lastVisit[i]);
+        this.lastVisit[i] = now;
+        if (elapsed <= 0) return;
+
+        DataModelInstance instance = this.models[i];
+        if (instance == null || instance.getSourceStack() != this.jobs[i]) {
+            instance = new DataModelInstance(this.jobs[i], i);
+            this.models[i] = instance;
+        }
+        if (!instance.isValid() || !instance.getTier()
+            .canSim()) {
+            return;
+        }
+        DataModel model = instance.getModel();
+        if (!HostileConfig.isModelEnabled(model.getEntityId())) {
+            return;
+        }
+        int cost = model.getSimCostWithConfig();
+
+        long consumed = 0;
+        while (elapsed > 0) {
+            if (this.runtime[i] == 0) {
+                if (this.matrices <= 0 || !this.outputs.hasSpace(1, HostileConfig.datacenterOutputCap)) {
+                    break;
+                }
+                this.matrices--;
+                this.runtime[i] = Constants.SIMULATION_TICKS;
+                this.predictions[i] = SimulationRules.rollPredictions(instance, RANDOM);
+                // Starting takes a tick of its own, as in a chamber
+                elapsed--;
+                continue;
+            }
+
+            // Like a chamber, every running tick needs a tick's energy on hand, but the completion tick is free
+            if (cost > 0 && this.energy < cost) {
+                break;
+            }
+            int ticks = Math.min(elapsed, this.runtime[i]);
+            int charged = ticks == this.runtime[i] ? ticks - 1 : ticks;
+            if (cost > 0 && (long) charged * cost > this.energy) {
+                charged = (int) (this.energy / cost);
+                ticks = charged;
+            }
+            this.energy -= (long) charged * cost;
+            consumed += (long) charged * cost;
+            this.runtime[i] -= ticks;
+            elapsed -= ticks;
+
+            if (this.runtime[i] == 0) {
+                complete(i, instance);
+            }
+        }
+        if (consumed > 0) {
+            HostileMetrics.Counter.SIM_ENERGY_CONSUMED.add(consumed);
+        }
+    }
+
+    private void complete(int i, DataModelInstance instance) {
+        DataModel model = instance.getModel();
+        ItemStack baseDrop = model.getBaseDrop();
+        if (baseDrop != null && baseDrop.getItem() != null) {
+            this.outputs.add(baseDrop, 1);
+        }
+        int success = this.predictions[i];
+        ItemStack prediction = HostileItems.mob_prediction != null
+            ? MobPredictionItem.getTemplate(model.getEntityId())
+            : null;
+        if (success > 0 && prediction != null) {
+            this.outputs.add(prediction, success);
+        }
+        HostileMetrics.recordSimulation(success);
+
+        SimulationRules.completeCycle(instance, this.jobs[i]);
+        this.predictions[i] = 0;
+    }
+
+    // ==================== NBT ====================
+
+    void readFromNBT(NBTTagCompound tag, long now) {
+        this.energy = tag.getLong("energy");
+        this.matrices = tag.getLong("matrices");
+        this.outputs.readFromNBT(tag, "outputs");
+
+        NBTTagList list = tag.getTagList("jobs", Constants.TAG_COMPOUND);
+        int[] savedRuntime = tag.getIntArray("runtime");
+        int[] savedPredictions = tag.getIntArray("predictions");
+        this.jobCount = 0;
+        for (int j = 0; j < list.tagCount(); j++) {
+            ItemStack model = ItemStack.loadItemStackFromNBT(list.getCompoundTagAt(j));
+            if (model == null) continue;
+            HostileItems.normalizeModelDamage(model);
+            // Bypass the job limit so a lowered config never drops stored models
+            ensureCapacity();
+            int i = this.jobCount;
+            this.jobs[i] = model;
+            this.runtime[i] = j < savedRuntime.length ? savedRuntime[j] : 0;
+            this.predictions[i] = j < savedPredictions.length ? savedPredictions[j] : 0;
+            this.lastVisit[i] = now;
+            this.jobCount++;
+        }
+    }
+
+    void writeToNBT(NBTTagCompound tag) {
+        tag.setString("owner", this.owner);
+        tag.setLong("energy", this.energy);
+        tag.setLong("matrices", this.matrices);
+        this.outputs.writeToNBT(tag, "outputs");
+
+        NBTTagList list = new NBTTagList();
+        for (int i = 0; i < this.jobCount; i++) {
+            list.appendTag(this.jobs[i].writeToNBT(new NBTTagCompound()));
+        }
+        tag.setTag("jobs", list);
+        tag.setIntArray("runtime", Arrays.copyOf(this.runtime, this.jobCount));
+        tag.setIntArray("predictions", Arrays.copyOf(this.predictions, this.jobCount));
+    }
+}
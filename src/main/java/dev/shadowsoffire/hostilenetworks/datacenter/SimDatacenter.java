@@ -0,0 +1,155 @@
+package dev.shadowsoffire.hostilenetworks.datacenter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+import net.minecraftforge.common.DimensionManager;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+
+/**
+ * Server-wide store of virtual simulation chambers, saved with the overworld.
+ * <p>
+ * Each owner has one {@link DatacenterNetwork}. Jobs are advanced by {@link Ticker} on the server tick, independent
+ * of which chunks are loaded, visiting at most {@link HostileConfig#datacenterJobsPerTick} jobs per tick across all
+ * networks. Simulation Terminal blocks only move models, matrices, energy and outputs in and out.
+ */
+public class SimDatacenter extends WorldSavedData {
+
+    public static final String DATA_NAME = "hostilenetworks_datacenter";
+
+    // Networks by owner, plus a list for round-robin scheduling in insertion order
+    private final Map<String, DatacenterNetwork> networks = new HashMap<>();
+    private final List<DatacenterNetwork> networkList = new ArrayList<>();
+    private int networkCursor;
+
+    private static SimDatacenter instance;
+    private static World instanceWorld;
+
+    public SimDatacenter(String name) {
+        super(name);
+    }
+
+    /**
+     * Get the datacenter of the running server, loading or creating it on first use. Returns null if the overworld
+     * is not loaded.
+     */
+    public static SimDatacenter get() {
+        World world = DimensionManager.getWorld(0);
+        if (world == null) {
+            return null;
+        }
+        if (instance == null || instanceWorld != world) {
+            SimDatacenter data = (SimDatacenter) world.mapStorage.loadData(SimDatacenter.class, DATA_NAME);
+            if (data == null) {
+                data = new SimDatacenter(DATA_NAME);
+                world.mapStorage.setData(DATA_NAME, data);
+            }
+            instance = data;
+            instanceWorld = world;
+        }
+        return instance;
+    }
+
+    /**
+     * Forget the cached datacenter when its world unloads, so the integrated server does not keep a closed save and
+     * its chunks alive.
+     */
+    public static void onWorldUnload(World world) {
+        if (world == instanceWorld) {
+            instance = null;
+            instanceWorld = null;
+        }
+    }
+
+    /**
+     * Get an owner's network, creating it if needed.
+     *
+     * @param owner Owner UUID, or an empty string for the shared network
+     */
+    public DatacenterNetwork getNetwork(String owner) {
+        DatacenterNetwork network = this.networks.get(owner);
+        if (network == null) {
+            network = new DatacenterNetwork(owner);
+            this.networks.put(owner, network);
+            this.networkList.add(network);
+        }
+        return network;
+    }
+
+    /**
+     * Advance jobs within the per-tick budget, starting from a different network each tick so every network gets
+     * its share.
+     */
+    void tick(long now) {
+        int count = this.networkList.size();
+        if (count == 0) {
+            return;
+        }
+        int budget = HostileConfig.datacenterJobsPerTick;
+        boolean visited = false;
+        for (int k = 0; k < count && budget > 0; k++) {
+            int visits = this.networkList.get((this.networkCursor + k) % count)
+                .tick(now, budget);
+            budget -= visits;
+            visited |= visits > 0;
+        }
+        this.networkCursor = (this.networkCursor + 1) % count;
+        if (visited) {
+            markDirty();
+        }
+    }
+
+    // ==================== NBT ====================
+
+    @Override
+    public void readFromNBT(NBTTagCompound tag) {
+        this.networks.clear();
+        this.networkList.clear();
+        long now = DimensionManager.getWorld(0) != null ? DimensionManager.getWorld(0)
+            .getTotalWorldTime() : 0L;
+
+        NBTTagList list = tag.getTagList("networks", Constants.TAG_COMPOUND);
+        for (int i = 0; i < list.tagCount(); i++) {
+            NBTTagCompound entry = list.getCompoundTagAt(i);
+            getNetwork(entry.getString("owner")).readFromNBT(entry, now);
+        }
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound tag) {
+        NBTTagList list = new NBTTagList();
+        for (DatacenterNetwork network : this.networkList) {
+            NBTTagCompound entry = new NBTTagCompound();
+            network.writeToNBT(entry);
+            list.appendTag(entry);
+        }
+        tag.setTag("networks", list);
+    }
+
+    /**
+     * Runs the datacenter scheduler once per server tick.
+     */
+    public static class Ticker {
+
+        @SubscribeEvent
+        public void onServerTick(TickEvent.ServerTickEvent event) {
+            if (event.phase != TickEvent.Phase.END) {
+                return;
+            }
+            SimDatacenter datacenter = get();
+            if (datacenter != null) {
+                datacenter.tick(instanceWorld.getTotalWorldTime());
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
 import dev.shadowsoffire.hostilenetworks.data.ModelTier;
 import dev.shadowsoffire.hostilenetworks.data.ModelTierRegistry;
 import dev.shadowsoffire.hostilenetworks.item.DeepLearnerItem;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
 
 /**
  * Handles player interaction with mobs for data model attuning and kill tracking.
@@ -35,8 +36,14 @@ public class MobInteractionHandler {
             return;
         }
 
-        // Find all DeepLearner items in player's inventory and update matching models
-        for (ItemStack stack : killer.inventory.mainInventory) {
+        onKill(killedEntityId, killer.inventory.mainInventory);
+    }
+
+    /**
+     * Add the data for a kill to the matching models in every DeepLearner in an inventory.
+     */
+    static void onKill(String killedEntityId, ItemStack[] inventory) {
+        for (ItemStack stack : inventory) {
             if (stack != null && stack.getItem() instanceof DeepLearnerItem) {
                 updateDeepLearnerFromKill(stack, killedEntityId);
             }
@@ -161,6 +168,7 @@ public class MobInteractionHandler {
 
             // Update the data in NBT
             setModelDataInNBT(modelTag, newData);
+            HostileMetrics.Counter.KILL_DATA_GAINED.add(dataPerKill);
         }
     }
 
@@ -1,9 +1,12 @@
 package dev.shadowsoffire.hostilenetworks.item;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
@@ -164,8 +167,7 @@ public class DataModelItem extends Item {
         if (model == null) return null;
 
         // Damage value = index in registry + 1 (0 is blank model)
-        int damage = DataModelRegistry.getIds()
-            .indexOf(entityId) + 1;
+        int damage = DataModelRegistry.getIndex(entityId) + 1;
         ItemStack stack = new ItemStack(HostileItems.data_model, 1, damage);
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString(NBTKeys.ENTITY_ID, entityId);
@@ -283,14 +285,23 @@ public class DataModelItem extends Item {
         // Damage = entity index + 1, used for NEI display
         String entityId = getEntityId(stack);
         if (entityId != null) {
-            int index = DataModelRegistry.getIds()
-                .indexOf(entityId);
+            int index = DataModelRegistry.getIndex(entityId);
             if (index >= 0) {
                 stack.setItemDamage(index + 1);
             }
         }
     }
 
+    /**
+     * Bring the damage of models saved with an older registry index up to date.
+     */
+    @Override
+    public void onUpdate(ItemStack stack, World world, Entity entity, int slot, boolean isHeld) {
+        if (!world.isRemote) {
+            updateDamage(stack);
+        }
+    }
+
     /**
      * Right-click handling.
      * - Sneaking: Clears the model back to blank (no message, matches original HNN)
@@ -514,6 +525,26 @@ public class DataModelItem extends Item {
         }
 
         int data = getCurrentData(stack);
+        int modelIndex = DataModelRegistry.getIndex(entityId);
+        if (modelIndex < 0) {
+            tooltip.addAll(buildModelTooltip(model, entityId, data));
+            return;
+        }
+
+        // Tooltip lines only depend on the model, data and config, so reuse them between frames
+        long key = ModelTooltipCache.key(modelIndex, data, advanced);
+        List<String> lines = ModelTooltipCache.get(key);
+        if (lines == null) {
+            lines = ModelTooltipCache.put(key, buildModelTooltip(model, entityId, data));
+        }
+        tooltip.addAll(lines);
+    }
+
+    /**
+     * Assemble the tooltip lines for an attuned data model.
+     */
+    private static List<String> buildModelTooltip(DataModel model, String entityId, int data) {
+        List<String> lines = new ArrayList<>();
         ModelTier tier = ModelTierRegistry.getTier(data, entityId);
 
         // Tier line: "Tier: <color>Basic"
@@ -524,7 +555,7 @@ public class DataModelItem extends Item {
         // Use tier's color for the tier display
         String tierColor = tier.getColor() != null ? tier.getColor()
             .toString() : "";
-        tooltip.add(EnumChatFormatting.WHITE + String.format(tierKey, tierColor + tier.getDisplayName()));
+        lines.add(EnumChatFormatting.WHITE + String.format(tierKey, tierColor + tier.getDisplayName()));
 
         // Data progress and Data Per Kill (only if not max tier)
         if (!tier.isMax()) {
@@ -547,7 +578,7 @@ public class DataModelItem extends Item {
             if (dprogKey.equals("hostilenetworks.info.dprog")) {
                 dprogKey = "%s/%s";
             }
-            tooltip.add(
+            lines.add(
                 EnumChatFormatting.WHITE
                     + String.format(dataKey, EnumChatFormatting.GRAY + String.format(dprogKey, dProg, dMax)));
 
@@ -562,12 +593,12 @@ public class DataModelItem extends Item {
                 if (disabledKey.equals("hostilenetworks.info.disabled")) {
                     disabledKey = "(Disabled)";
                 }
-                tooltip.add(
+                lines.add(
                     EnumChatFormatting.WHITE + String.format(
                         dpkKey,
                         EnumChatFormatting.GRAY + "000 " + EnumChatFormatting.OBFUSCATED + disabledKey));
             } else {
-                tooltip.add(
+                lines.add(
                     EnumChatFormatting.WHITE
                         + String.format(dpkKey, EnumChatFormatting.GRAY + String.valueOf(dataPerKill)));
             }
@@ -582,7 +613,7 @@ public class DataModelItem extends Item {
         if (rftKey.equals("hostilenetworks.info.rft")) {
             rftKey = "%s FE/t";
         }
-        tooltip.add(
+        lines.add(
             EnumChatFormatting.WHITE
                 + String.format(simCostKey, EnumChatFormatting.GRAY + String.format(rftKey, model.getSimCost())));
 
@@ -593,7 +624,7 @@ public class DataModelItem extends Item {
             if (subtypesKey.equals("hostilenetworks.info.subtypes")) {
                 subtypesKey = "Variants";
             }
-            tooltip.add(EnumChatFormatting.WHITE + subtypesKey);
+            lines.add(EnumChatFormatting.WHITE + subtypesKey);
             String listPrefix = StatCollector.translateToLocal("tooltip.hostilenetworks.list_prefix");
             if (listPrefix.equals("tooltip.hostilenetworks.list_prefix")) {
                 listPrefix = "  - %s";
@@ -608,9 +639,11 @@ public class DataModelItem extends Item {
                     // Fallback to variant ID if no translation found
                     variantName = variant;
                 }
-                tooltip.add(EnumChatFormatting.GREEN + String.format(listPrefix, variantName));
+                lines.add(EnumChatFormatting.GREEN + String.format(listPrefix, variantName));
             }
         }
+
+        return lines;
     }
 
     /**
@@ -636,6 +669,10 @@ public class DataModelItem extends Item {
         return false;
     }
 
+    /** Sub-item templates, built once per registry generation and copied out to callers */
+    private static List<ItemStack> subItemTemplates = Collections.emptyList();
+    private static int subItemGeneration = -1;
+
     /**
      * Add sub-items for each entity data model variant.
      * damage=0: Blank model framework
@@ -643,9 +680,24 @@ public class DataModelItem extends Item {
      */
     @Override
     public void getSubItems(Item item, CreativeTabs tab, List<ItemStack> list) {
+        if (subItemGeneration != DataModelRegistry.getGeneration()) {
+            subItemTemplates = buildSubItems(item);
+            subItemGeneration = DataModelRegistry.getGeneration();
+        }
+        // Callers may resize or retag the stacks they receive, so never hand out the templates
+        for (ItemStack template : subItemTemplates) {
+            list.add(template.copy());
+        }
+    }
+
+    /**
+     * Build the sub-item templates for the current registry contents.
+     */
+    private static List<ItemStack> buildSubItems(Item item) {
+        List<ItemStack> templates = new ArrayList<>(DataModelRegistry.size() + 1);
+
         // Add a blank data model (damage 0 = unattuned, no NBT)
-        ItemStack blankStack = new ItemStack(item, 1, 0);
-        list.add(blankStack);
+        templates.add(new ItemStack(item, 1, 0));
 
         // Add a data model for each registered entity
         int damage = 1;
@@ -660,8 +712,9 @@ public class DataModelItem extends Item {
                     .setInteger(NBTKeys.CURRENT_DATA, 0);
                 modelStack.getTagCompound()
                     .setInteger(NBTKeys.ITERATIONS, 0);
-                list.add(modelStack);
+                templates.add(modelStack);
             }
         }
+        return Collections.unmodifiableList(templates);
     }
 }
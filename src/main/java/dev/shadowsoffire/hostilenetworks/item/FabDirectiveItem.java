@@ -17,6 +17,7 @@ import net.minecraft.world.World;
 
 import dev.shadowsoffire.hostilenetworks.data.DataModel;
 import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
+import dev.shadowsoffire.hostilenetworks.tile.FabSchedule;
 import dev.shadowsoffire.hostilenetworks.tile.LootFabTileEntity;
 import dev.shadowsoffire.hostilenetworks.util.NBTKeys;
 
@@ -62,6 +63,7 @@ public class FabDirectiveItem extends Item {
             Map<String, Integer> selections = getSelections(stack);
             if (!selections.isEmpty()) {
                 lootFab.setSelections(selections);
+                lootFab.setSchedules(getSchedules(stack));
                 player.addChatMessage(
                     new ChatComponentText(
                         EnumChatFormatting.GREEN + StatCollector.translateToLocalFormatted(
@@ -79,6 +81,7 @@ public class FabDirectiveItem extends Item {
             Map<String, Integer> fabSelections = lootFab.getSelections();
             if (!fabSelections.isEmpty()) {
                 saveSelections(stack, fabSelections);
+                saveSchedules(stack, lootFab.getSchedules());
                 String fabName = StatCollector.translateToLocal(lootFab.getInventoryName());
                 player.addChatMessage(
                     new ChatComponentText(
@@ -139,6 +142,55 @@ public class FabDirectiveItem extends Item {
         rootTag.setTag(NBTKeys.SELECTIONS, list);
     }
 
+    /**
+     * Get the saved weighted schedules from this directive.
+     * Returns a map of entity ID to schedule.
+     */
+    public static Map<String, FabSchedule> getSchedules(ItemStack stack) {
+        Map<String, FabSchedule> schedules = new HashMap<>();
+
+        if (!stack.hasTagCompound()) return schedules;
+
+        NBTTagList list = stack.getTagCompound()
+            .getTagList(NBTKeys.SCHEDULES, 10);
+        for (int i = 0; i < list.tagCount(); i++) {
+            NBTTagCompound tagCompound = list.getCompoundTagAt(i);
+            FabSchedule schedule = FabSchedule.readFromNBT(tagCompound);
+            if (!schedule.isEmpty()) {
+                schedules.put(tagCompound.getString(NBTKeys.ENTITY_ID), schedule);
+            }
+        }
+
+        return schedules;
+    }
+
+    /**
+     * Save weighted schedules to this directive. The rotation position is not copied, so every
+     * fabricator the directive is applied to starts at the beginning of the schedule.
+     */
+    public static void saveSchedules(ItemStack stack, Map<String, FabSchedule> schedules) {
+        if (!stack.hasTagCompound()) {
+            stack.setTagCompound(new NBTTagCompound());
+        }
+
+        NBTTagCompound rootTag = stack.getTagCompound();
+        if (schedules.isEmpty()) {
+            rootTag.removeTag(NBTKeys.SCHEDULES);
+            return;
+        }
+
+        NBTTagList list = new NBTTagList();
+        for (Map.Entry<String, FabSchedule> entry : schedules.entrySet()) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setString(NBTKeys.ENTITY_ID, entry.getKey());
+            entry.getValue()
+                .writeToNBT(tag, false);
+            list.appendTag(tag);
+        }
+
+        rootTag.setTag(NBTKeys.SCHEDULES, list);
+    }
+
     /**
      * Check if this directive has any saved selections.
      */
@@ -236,6 +288,15 @@ public class FabDirectiveItem extends Item {
                         entityName + ": " + dropInfo));
                 displayed++;
             }
+
+            int scheduleCount = stack.getTagCompound()
+                .getTagList(NBTKeys.SCHEDULES, 10)
+                .tagCount();
+            if (scheduleCount > 0) {
+                tooltip.add(
+                    EnumChatFormatting.AQUA + StatCollector
+                        .translateToLocalFormatted("tooltip.hostilenetworks.fab_directive.schedules", scheduleCount));
+            }
         } else {
             tooltip.add(
                 EnumChatFormatting.GRAY
@@ -7,6 +7,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import cpw.mods.fml.common.registry.GameRegistry;
+import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
 
 /**
  * Registry class for all items in Hostile Neural Networks.
@@ -113,6 +114,33 @@ public class HostileItems {
         return new ItemStack(prediction_matrix);
     }
 
+    /**
+     * Check whether a stack is a prediction matrix, without allocating a stack to compare against.
+     */
+    public static boolean isPredictionMatrix(ItemStack stack) {
+        return stack != null && prediction_matrix != null
+            && stack.getItem() == prediction_matrix
+            && stack.getItemDamage() == 0;
+    }
+
+    /**
+     * Re-derive the damage value of a data model or mob prediction from the entity id in its NBT.
+     * Damage values are indices in {@link DataModelRegistry#getIds()}, which shift when models are added or removed,
+     * and were in hash order before that list was sorted. Stacks saved with an older index would otherwise no longer
+     * stack with freshly made ones. Other stacks are left alone.
+     */
+    public static void normalizeModelDamage(ItemStack stack) {
+        if (stack == null) {
+            return;
+        }
+        Item item = stack.getItem();
+        if (item != null && item == data_model) {
+            DataModelItem.updateDamage(stack);
+        } else if (item != null && item == mob_prediction) {
+            MobPredictionItem.updateDamage(stack);
+        }
+    }
+
     /**
      * Get an overworld prediction item stack.
      */
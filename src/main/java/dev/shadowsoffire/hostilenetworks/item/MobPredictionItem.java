@@ -1,15 +1,21 @@
 package dev.shadowsoffire.hostilenetworks.item;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
+import net.minecraft.entity.Entity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.StatCollector;
+import net.minecraft.world.World;
 
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.config.ModelConfig;
 import dev.shadowsoffire.hostilenetworks.data.DataModel;
 import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
 import dev.shadowsoffire.hostilenetworks.util.NBTKeys;
@@ -27,36 +33,116 @@ public class MobPredictionItem extends Item {
         setHasSubtypes(true);
     }
 
+    /** Sub-item templates, built once per registry generation and copied out to callers */
+    private static List<ItemStack> subItemTemplates = Collections.emptyList();
+    private static int subItemGeneration = -1;
+
+    /** Immutable prediction stack per model, indexed like {@link DataModelRegistry#getIds()} */
+    private static ItemStack[] predictionTemplates = new ItemStack[0];
+    private static int templateGeneration = -1;
+
+    /** Packed RGB per model, indexed like {@link DataModelRegistry#getIds()} (damage - 1). */
+    private static int[] colorTable = new int[0];
+    private static String[] colorTableIds = new String[0];
+    private static int colorConfigGeneration = -1;
+    private static int colorRegistryGeneration = -1;
+
     /**
      * Get the color to render this item with.
-     * Returns the entity-specific color from the DataModel.
+     * Returns the entity-specific color from the DataModel, precomputed per model.
      */
     @Override
     public int getColorFromItemStack(ItemStack stack, int renderPass) {
-        DataModel model = getDataModel(stack);
-        if (model != null) {
-            // Try hex color first
-            String hexColor = model.getHexColor();
-            if (hexColor != null && !hexColor.isEmpty()) {
-                try {
-                    return (int) (0xFF000000L | Long.parseLong(hexColor.substring(1), 16));
-                } catch (NumberFormatException e) {
-                    // Fall through to EnumChatFormatting
+        if (HostileConfig.getGeneration() != colorConfigGeneration
+            || DataModelRegistry.getGeneration() != colorRegistryGeneration) {
+            rebuildColorTable();
+        }
+
+        String entityId = getEntityId(stack);
+        if (entityId == null) {
+            return 16777215; // Default white
+        }
+
+        // Damage is the model index + 1; verify it still points at the same model before trusting it
+        int index = stack.getItemDamage() - 1;
+        if (index < 0 || index >= colorTableIds.length || !entityId.equals(colorTableIds[index])) {
+            index = DataModelRegistry.getIndex(entityId);
+        }
+        return index >= 0 && index < colorTable.length ? colorTable[index] : 16777215;
+    }
+
+    /**
+     * Recompute the packed color of every registered model.
+     * Runs after models are loaded and whenever the config (and thus color overrides) change.
+     */
+    private static void rebuildColorTable() {
+        List<String> ids = DataModelRegistry.getIds();
+        int[] colors = new int[ids.size()];
+        String[] colorIds = new String[ids.size()];
+        for (int i = 0; i < colors.length; i++) {
+            colorIds[i] = ids.get(i);
+            colors[i] = computeColor(DataModelRegistry.get(colorIds[i]));
+        }
+        colorTable = colors;
+        colorTableIds = colorIds;
+        colorConfigGeneration = HostileConfig.getGeneration();
+        colorRegistryGeneration = DataModelRegistry.getGeneration();
+    }
+
+    /**
+     * Resolve the render color of a model, honoring config color overrides.
+     */
+    private static int computeColor(DataModel model) {
+        if (model == null) {
+            return 16777215;
+        }
+
+        // Config override: either #RRGGBB or a color name
+        ModelConfig config = HostileConfig.getModelConfig(model.getEntityId());
+        if (config != null && config.hasColorOverride()) {
+            String override = config.getColor();
+            if (override.startsWith("#")) {
+                Integer parsed = parseHexColor(override);
+                if (parsed != null) {
+                    return parsed;
                 }
+            } else {
+                return getColorFromFormatting(HostileConfig.getTierColor(override));
             }
+        }
 
-            // Fall back to EnumChatFormatting
-            if (model.getColor() != null) {
-                return getColorFromFormatting(model.getColor());
+        // Try hex color first
+        String hexColor = model.getHexColor();
+        if (hexColor != null && !hexColor.isEmpty()) {
+            Integer parsed = parseHexColor(hexColor);
+            if (parsed != null) {
+                return parsed;
             }
+            // Fall through to EnumChatFormatting
+        }
+
+        // Fall back to EnumChatFormatting
+        if (model.getColor() != null) {
+            return getColorFromFormatting(model.getColor());
         }
         return 16777215; // Default white
     }
 
+    /**
+     * Parse a "#RRGGBB" string, returning null if it is malformed.
+     */
+    private static Integer parseHexColor(String hexColor) {
+        try {
+            return (int) (0xFF000000L | Long.parseLong(hexColor.substring(1), 16));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Convert EnumChatFormatting to RGB integer.
      */
-    private int getColorFromFormatting(EnumChatFormatting formatting) {
+    private static int getColorFromFormatting(EnumChatFormatting formatting) {
         switch (formatting) {
             case BLACK:
                 return 0x000000;
@@ -200,21 +286,59 @@ public class MobPredictionItem extends Item {
         return null;
     }
 
+    /**
+     * Set the damage value from the entity ID, matching the model's template. Unknown entities are left alone.
+     */
+    public static void updateDamage(ItemStack stack) {
+        String entityId = getEntityId(stack);
+        if (entityId != null) {
+            int index = DataModelRegistry.getIndex(entityId);
+            if (index >= 0) {
+                stack.setItemDamage(index + 1);
+            }
+        }
+    }
+
+    /**
+     * Bring the damage of predictions saved with an older registry index up to date.
+     */
+    @Override
+    public void onUpdate(ItemStack stack, World world, Entity entity, int slot, boolean isHeld) {
+        if (!world.isRemote) {
+            updateDamage(stack);
+        }
+    }
+
     /**
      * Add sub-items for each entity data model variant (for NEI visibility).
      * Creates a mapping of entity IDs to damage values.
      */
     @Override
     public void getSubItems(Item item, CreativeTabs tab, List<ItemStack> list) {
+        if (subItemGeneration != DataModelRegistry.getGeneration()) {
+            subItemTemplates = buildSubItems();
+            subItemGeneration = DataModelRegistry.getGeneration();
+        }
+        // Callers may resize or retag the stacks they receive, so never hand out the templates
+        for (ItemStack template : subItemTemplates) {
+            list.add(template.copy());
+        }
+    }
+
+    /**
+     * Build the sub-item templates for the current registry contents.
+     */
+    private static List<ItemStack> buildSubItems() {
+        List<ItemStack> templates = new ArrayList<>(DataModelRegistry.size());
+
         // Add a prediction item for each registered entity
-        int damage = 1;
         for (String entityId : DataModelRegistry.getIds()) {
-            DataModel model = DataModelRegistry.get(entityId);
-            if (model != null) {
-                ItemStack predictionStack = create(entityId, damage++);
-                list.add(predictionStack);
+            ItemStack template = getTemplate(entityId);
+            if (template != null) {
+                templates.add(template);
             }
         }
+        return Collections.unmodifiableList(templates);
     }
 
     /**
@@ -228,12 +352,35 @@ public class MobPredictionItem extends Item {
     }
 
     /**
-     * Create a prediction item for a specific entity (default damage 1).
+     * Create a prediction item for a specific entity, with the damage value matching getSubItems().
      */
     public static ItemStack create(String entityId) {
-        // Get damage value matching getSubItems() - index in registry + 1
-        int damage = DataModelRegistry.getIds()
-            .indexOf(entityId) + 1;
-        return create(entityId, damage);
+        ItemStack template = getTemplate(entityId);
+        return template != null ? template.copy() : create(entityId, 0);
+    }
+
+    /**
+     * Get the shared prediction stack of a registered model, or null if the entity has no model.
+     * The stack must not be modified; use {@link #create(String)} for a copy.
+     */
+    public static ItemStack getTemplate(String entityId) {
+        if (DataModelRegistry.getGeneration() != templateGeneration) {
+            rebuildTemplates();
+        }
+        int index = DataModelRegistry.getIndex(entityId);
+        return index >= 0 && index < predictionTemplates.length ? predictionTemplates[index] : null;
+    }
+
+    /**
+     * Build one prediction stack per registered model. Damage is the model index + 1.
+     */
+    private static void rebuildTemplates() {
+        List<String> ids = DataModelRegistry.getIds();
+        ItemStack[] templates = new ItemStack[ids.size()];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = create(ids.get(i), i + 1);
+        }
+        predictionTemplates = templates;
+        templateGeneration = DataModelRegistry.getGeneration();
     }
 }
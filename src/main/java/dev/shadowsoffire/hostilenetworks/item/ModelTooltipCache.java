@@ -0,0 +1,88 @@
+package dev.shadowsoffire.hostilenetworks.item;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
+
+/**
+ * Cache of assembled data model tooltip lines.
+ * Tooltips are rebuilt every frame while hovering and NEI calls addInformation for search
+ * indexing, so the translated lines are kept per (model index, data, flags).
+ * The whole cache is dropped when the language, the config or the model registry changes.
+ * NEI builds its search index on worker threads while the client renders tooltips, and even a read reorders the
+ * access-ordered map, so every access holds the map's lock.
+ */
+final class ModelTooltipCache {
+
+    /** Upper bound on cached tooltips; the least recently used entry is evicted first */
+    private static final int MAX_ENTRIES = 512;
+
+    private static final Map<Long, List<String>> CACHE = new LinkedHashMap<Long, List<String>>(64, 0.75F, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, List<String>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static String language;
+    private static int configGeneration = -1;
+    private static int registryGeneration = -1;
+
+    private ModelTooltipCache() {}
+
+    /**
+     * Build the cache key for a model tooltip.
+     *
+     * @param modelIndex Index of the model in the registry
+     * @param data       Current data value of the model
+     * @param advanced   Whether advanced tooltips (F3+H) are enabled
+     */
+    static long key(int modelIndex, int data, boolean advanced) {
+        return ((long) modelIndex << 33) | (advanced ? 1L << 32 : 0L) | (data & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get cached tooltip lines, or null if they need to be built.
+     */
+    static List<String> get(long key) {
+        synchronized (CACHE) {
+            validate();
+            return CACHE.get(key);
+        }
+    }
+
+    /**
+     * Store freshly built tooltip lines and return the cached (unmodifiable) copy.
+     */
+    static List<String> put(long key, List<String> lines) {
+        List<String> cached = Collections.unmodifiableList(lines);
+        synchronized (CACHE) {
+            CACHE.put(key, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Drop every cached tooltip if the language, config or registry changed since they were built.
+     * Callers hold the lock on {@link #CACHE}.
+     */
+    private static void validate() {
+        String currentLanguage = FMLCommonHandler.instance()
+            .getCurrentLanguage();
+        int currentConfig = HostileConfig.getGeneration();
+        int currentRegistry = DataModelRegistry.getGeneration();
+        if (currentConfig != configGeneration || currentRegistry != registryGeneration
+            || (currentLanguage == null ? language != null : !currentLanguage.equals(language))) {
+            CACHE.clear();
+            language = currentLanguage;
+            configGeneration = currentConfig;
+            registryGeneration = currentRegistry;
+        }
+    }
+}
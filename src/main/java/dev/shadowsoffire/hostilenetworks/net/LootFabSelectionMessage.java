@@ -3,6 +3,7 @@ package dev.shadowsoffire.hostilenetworks.net;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChunkCoordinates;
 
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
@@ -16,19 +17,34 @@ import io.netty.buffer.ByteBuf;
 
 /**
  * Packet to handle loot fabricator selection from client to server.
+ * <p>
+ * Applied on the server thread through the {@link ServerPacketQueue}.
  */
-public class LootFabSelectionMessage implements IMessage {
+public class LootFabSelectionMessage implements IMessage, ServerPacketQueue.Task {
+
+    /** Replace the selection (and any schedule) with a single drop */
+    public static final byte MODE_SELECT = 0;
+    /** Add one to the drop's schedule weight */
+    public static final byte MODE_ADD_WEIGHT = 1;
+    /** Remove one from the drop's schedule weight */
+    public static final byte MODE_REMOVE_WEIGHT = 2;
 
     public int x, y, z;
     public int selection; // -1 to clear, otherwise drop index
+    public byte mode = MODE_SELECT;
 
     public LootFabSelectionMessage() {}
 
     public LootFabSelectionMessage(int x, int y, int z, int selection) {
+        this(x, y, z, selection, MODE_SELECT);
+    }
+
+    public LootFabSelectionMessage(int x, int y, int z, int selection, byte mode) {
         this.x = x;
         this.y = y;
         this.z = z;
         this.selection = selection;
+        this.mode = mode;
     }
 
     @Override
@@ -37,6 +53,7 @@ public class LootFabSelectionMessage implements IMessage {
         this.y = buf.readInt();
         this.z = buf.readInt();
         this.selection = buf.readInt();
+        this.mode = buf.readByte();
     }
 
     @Override
@@ -45,37 +62,66 @@ public class LootFabSelectionMessage implements IMessage {
         buf.writeInt(y);
         buf.writeInt(z);
         buf.writeInt(selection);
+        buf.writeByte(mode);
     }
 
     /**
-     * Handler for processing the selection message on the server.
+     * Apply the selection on the server thread.
      */
-    public static class Handler implements IMessageHandler<LootFabSelectionMessage, IMessage> {
-
-        @Override
-        public IMessage onMessage(LootFabSelectionMessage message, MessageContext ctx) {
-            EntityPlayerMP player = ctx.getServerHandler().playerEntity;
-            TileEntity tile = player.worldObj.getTileEntity(message.x, message.y, message.z);
-
-            if (tile instanceof LootFabTileEntity) {
-                LootFabTileEntity fab = (LootFabTileEntity) tile;
+    @Override
+    public void run(EntityPlayerMP player) {
+        // Never load a chunk on behalf of a packet
+        if (!player.worldObj.blockExists(this.x, this.y, this.z)) {
+            return;
+        }
+        TileEntity tile = player.worldObj.getTileEntity(this.x, this.y, this.z);
+        if (!(tile instanceof LootFabTileEntity) || !((LootFabTileEntity) tile).isUseableByPlayer(player)) {
+            return;
+        }
+        LootFabTileEntity fab = (LootFabTileEntity) tile;
 
-                // Process selection on server
-                ItemStack prediction = fab.getStackInSlot(Constants.SLOT_PREDICTION);
+        ItemStack prediction = fab.getStackInSlot(Constants.SLOT_PREDICTION);
+        if (prediction == null) {
+            return;
+        }
+        String entityId = MobPredictionItem.getEntityId(prediction);
+        if (entityId == null) {
+            return;
+        }
+        DataModel model = DataModelRegistry.get(entityId);
+        if (model == null) {
+            return;
+        }
 
-                if (prediction != null) {
-                    String entityId = MobPredictionItem.getEntityId(prediction);
+        switch (this.mode) {
+            case MODE_ADD_WEIGHT:
+                fab.adjustScheduleWeight(model, this.selection, 1);
+                break;
+            case MODE_REMOVE_WEIGHT:
+                fab.adjustScheduleWeight(model, this.selection, -1);
+                break;
+            default:
+                fab.setSelection(model, this.selection);
+                break;
+        }
+    }
 
-                    if (entityId != null) {
-                        DataModel model = DataModelRegistry.get(entityId);
+    /**
+     * A plain selection replaces any earlier one for the same fabricator; weight changes add up, so each counts.
+     */
+    @Override
+    public Object getCollapseKey() {
+        return this.mode == MODE_SELECT ? new ChunkCoordinates(this.x, this.y, this.z) : null;
+    }
 
-                        if (model != null) {
-                            fab.setSelection(model, message.selection);
-                        }
-                    }
-                }
-            }
+    /**
+     * Handler for the selection message on the server. Runs on the network thread, so it only queues the message.
+     */
+    public static class Handler implements IMessageHandler<LootFabSelectionMessage, IMessage> {
 
+        @Override
+        public IMessage onMessage(LootFabSelectionMessage message, MessageContext ctx) {
+            ServerPacketQueue.offer(ctx.getServerHandler().playerEntity, message);
             return null; // No response needed
         }
     }
@@ -0,0 +1,183 @@
+package dev.shadowsoffire.hostilenetworks.net;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.HostileNetworks;
+
+/**
+ * Hands client packets from the network thread to the server thread.
+ * <p>
+ * Packet handlers run on a Netty thread, where touching worlds or tile entities races the server tick. They
+ * {@link #offer} their packet here instead, and {@link Ticker} applies the queue at the start of the next server
+ * tick. The queue holds at most {@link HostileConfig#packetQueueCapacity} packets, and each player may have at most
+ * {@link HostileConfig#packetRateLimit} waiting and have that many applied per second. Within one tick, packets from
+ * the same player with the same {@link Task#getCollapseKey() collapse key} are reduced to the last one.
+ */
+public final class ServerPacketQueue {
+
+    /**
+     * A packet to apply on the server thread.
+     */
+    public interface Task {
+
+        /**
+         * Apply the packet for the player that sent it. Called on the server thread.
+         */
+        void run(EntityPlayerMP player);
+
+        /**
+         * Get a key for packets that replace earlier ones with the same key, or null if every packet counts.
+         */
+        Object getCollapseKey();
+    }
+
+    private static final Queue<Entry> QUEUE = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+    // Waiting packets per player, for the per-player cap on the network thread
+    private static final Map<UUID, Integer> PENDING = new ConcurrentHashMap<>();
+
+    // Server thread only: packets applied per player in the current second, and scratch collections for draining
+    private static final Map<UUID, Integer> APPLIED = new HashMap<>();
+    private static final List<Entry> BATCH = new ArrayList<>();
+    private static final Set<Object> KEYS = new HashSet<>();
+    private static int windowTicks;
+    private static int dropped;
+
+    private ServerPacketQueue() {}
+
+    /**
+     * Queue a packet for the server thread. Safe to call from any thread.
+     *
+     * @return Whether the packet was queued; false if the sender or the queue is over its limit
+     */
+    public static boolean offer(EntityPlayerMP player, Task task) {
+        UUID id = player.getUniqueID();
+        if (PENDING.merge(id, 1, Integer::sum) > HostileConfig.packetRateLimit) {
+            release(id);
+            return false;
+        }
+        if (SIZE.incrementAndGet() > HostileConfig.packetQueueCapacity) {
+            SIZE.decrementAndGet();
+            release(id);
+            return false;
+        }
+        QUEUE.add(new Entry(player, task));
+        return true;
+    }
+
+    private static void release(UUID id) {
+        PENDING.computeIfPresent(id, (k, v) -> v > 1 ? v - 1 : null);
+    }
+
+    /**
+     * Apply every packet queued before this call.
+     */
+    static void drain() {
+        if (++windowTicks >= 20) {
+            windowTicks = 0;
+            APPLIED.clear();
+            if (dropped > 0) {
+                HostileNetworks.LOG.debug("Dropped {} machine packets over the per-player rate limit", dropped);
+                dropped = 0;
+            }
+        }
+
+        for (int n = SIZE.get(); n > 0; n--) {
+            Entry entry = QUEUE.poll();
+            if (entry == null) break;
+            SIZE.decrementAndGet();
+            release(entry.id);
+            BATCH.add(entry);
+        }
+        if (BATCH.isEmpty()) {
+            return;
+        }
+
+        // Walk backwards so the last packet for each key survives
+        for (int i = BATCH.size() - 1; i >= 0; i--) {
+            Object key = BATCH.get(i).collapseKey;
+            if (key != null && !KEYS.add(key)) {
+                BATCH.set(i, null);
+            }
+        }
+
+        for (Entry entry : BATCH) {
+            if (entry == null) continue;
+            if (APPLIED.merge(entry.id, 1, Integer::sum) > HostileConfig.packetRateLimit) {
+                dropped++;
+                continue;
+            }
+            entry.task.run(entry.player);
+        }
+        BATCH.clear();
+        KEYS.clear();
+    }
+
+    private static final class Entry {
+
+        final EntityPlayerMP player;
+        final UUID id;
+        final Task task;
+        // Task key qualified by the sender, or null
+        final CollapseKey collapseKey;
+
+        Entry(EntityPlayerMP player, Task task) {
+            this.player = player;
+            this.id = player.getUniqueID();
+            this.task = task;
+            Object key = task.getCollapseKey();
+            this.collapseKey = key != null ? new CollapseKey(this.id, key) : null;
+        }
+    }
+
+    private static final class CollapseKey {
+
+        final UUID player;
+        final Object key;
+
+        CollapseKey(UUID player, Object key) {
+            this.player = player;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CollapseKey)) return false;
+            CollapseKey other = (CollapseKey) o;
+            return this.player.equals(other.player) && this.key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.player.hashCode() * 31 + this.key.hashCode();
+        }
+    }
+
+    /**
+     * Drains the queue at the start of every server tick, before worlds and tile entities tick.
+     */
+    public static class Ticker {
+
+        @SubscribeEvent
+        public void onServerTick(TickEvent.ServerTickEvent event) {
+            if (event.phase == TickEvent.Phase.START) {
+                drain();
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package dev.shadowsoffire.hostilenetworks.proxy;
 
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
 import net.minecraftforge.client.MinecraftForgeClient;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
@@ -78,8 +77,7 @@ public class ClientProxy extends CommonProxy {
             Minecraft mc = Minecraft.getMinecraft();
             if (mc.thePlayer == null) return;
 
-            ScaledResolution scaledRes = new ScaledResolution(mc, mc.displayWidth, mc.displayHeight);
-            DeepLearnerHudRenderer.render(mc, scaledRes, event.partialTicks);
+            DeepLearnerHudRenderer.render(mc, event.resolution, event.partialTicks);
         }
     }
 
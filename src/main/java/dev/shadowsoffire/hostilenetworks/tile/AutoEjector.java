@@ -0,0 +1,206 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+
+/**
+ * Pushes a machine's output slots into adjacent inventories on enabled sides.
+ * <p>
+ * Transfers run every {@link HostileConfig#autoEjectInterval} ticks and move as much of each output stack as the
+ * target accepts in one go. Neighbour inventories are looked up once and cached until the owning block is told a
+ * neighbour changed (see {@link #onNeighborChanged()}), so an idle machine does no world lookups.
+ */
+public final class AutoEjector {
+
+    private static final ForgeDirection[] DIRECTIONS = ForgeDirection.VALID_DIRECTIONS;
+
+    private final TileEntity owner;
+    private final ItemStack[] inventory;
+    private final int[] outputSlots;
+
+    /** Bit per {@link ForgeDirection} ordinal */
+    private int sideMask;
+    private final IInventory[] neighbours = new IInventory[DIRECTIONS.length];
+    private boolean neighboursValid;
+    private int cooldown;
+
+    /**
+     * @param owner       The machine tile
+     * @param inventory   The machine's backing inventory array
+     * @param outputSlots Slots that may be ejected, in priority order
+     */
+    AutoEjector(TileEntity owner, ItemStack[] inventory, int[] outputSlots) {
+        this.owner = owner;
+        this.inventory = inventory;
+        this.outputSlots = outputSlots;
+    }
+
+    /**
+     * Get the ejector of a machine tile, or null if the tile is not an HNN machine.
+     */
+    public static AutoEjector get(TileEntity tile) {
+        if (tile instanceof SimChamberTileEntity) return ((SimChamberTileEntity) tile).getAutoEjector();
+        if (tile instanceof LootFabTileEntity) return ((LootFabTileEntity) tile).getAutoEjector();
+        if (tile instanceof SimArrayTileEntity) return ((SimArrayTileEntity) tile).getAutoEjector();
+        return null;
+    }
+
+    // ==================== Configuration ====================
+
+    public boolean isEnabled(int side) {
+        return (sideMask & (1 << side)) != 0;
+    }
+
+    /**
+     * Toggle ejection on a side.
+     *
+     * @return Whether the side is now enabled
+     */
+    public boolean toggle(int side) {
+        sideMask ^= 1 << side;
+        neighboursValid = false;
+        return isEnabled(side);
+    }
+
+    /**
+     * Drop the cached neighbour inventories, to be looked up again on the next transfer.
+     */
+    public void onNeighborChanged() {
+        neighboursValid = false;
+    }
+
+    // ==================== Transfer ====================
+
+    /**
+     * Called every server tick by the owning machine.
+     *
+     * @return Whether any items were moved
+     */
+    boolean tick() {
+        if (sideMask == 0 || !HostileConfig.autoEjectEnabled) {
+            return false;
+        }
+        if (++cooldown < HostileConfig.autoEjectInterval) {
+            return false;
+        }
+        cooldown = 0;
+
+        if (!neighboursValid) {
+            refreshNeighbours();
+        }
+
+        boolean moved = false;
+        for (int slot : outputSlots) {
+            ItemStack stack = inventory[slot];
+            if (stack == null) continue;
+
+            for (int d = 0; d < DIRECTIONS.length && stack.stackSize > 0; d++) {
+                IInventory target = neighbours[d];
+                if (target == null) continue;
+                if (target instanceof TileEntity && ((TileEntity) target).isInvalid()) {
+                    neighboursValid = false;
+                    continue;
+                }
+                if (insert(target, stack, DIRECTIONS[d].getOpposite().ordinal())) {
+                    target.markDirty();
+                    moved = true;
+                }
+            }
+
+            if (stack.stackSize <= 0) {
+                inventory[slot] = null;
+            }
+        }
+        return moved;
+    }
+
+    private void refreshNeighbours() {
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            neighbours[d] = null;
+            if (!isEnabled(d)) continue;
+
+            ForgeDirection dir = DIRECTIONS[d];
+            int x = owner.xCoord + dir.offsetX;
+            int y = owner.yCoord + dir.offsetY;
+            int z = owner.zCoord + dir.offsetZ;
+            // Never load a chunk just to push items into it
+            if (!owner.getWorldObj()
+                .blockExists(x, y, z)) continue;
+            TileEntity tile = owner.getWorldObj()
+                .getTileEntity(x, y, z);
+            if (tile instanceof IInventory && !tile.isInvalid()) {
+                neighbours[d] = (IInventory) tile;
+            }
+        }
+        neighboursValid = true;
+    }
+
+    /**
+     * Move as much of the stack as possible into the target, reducing {@code stack.stackSize} by the amount moved.
+     *
+     * @param side Side of the target the items enter from
+     * @return Whether anything was moved
+     */
+    private static boolean insert(IInventory target, ItemStack stack, int side) {
+        int before = stack.stackSize;
+        if (target instanceof ISidedInventory) {
+            ISidedInventory sided = (ISidedInventory) target;
+            int[] slots = sided.getAccessibleSlotsFromSide(side);
+            if (slots == null) return false;
+            // Merge into existing stacks first, then fill empty slots
+            for (int pass = 0; pass < 2 && stack.stackSize > 0; pass++) {
+                for (int slot : slots) {
+                    if (!sided.canInsertItem(slot, stack, side)) continue;
+                    insertIntoSlot(target, slot, stack, pass == 0);
+                    if (stack.stackSize <= 0) break;
+                }
+            }
+        } else {
+            int size = target.getSizeInventory();
+            for (int pass = 0; pass < 2 && stack.stackSize > 0; pass++) {
+                for (int slot = 0; slot < size; slot++) {
+                    insertIntoSlot(target, slot, stack, pass == 0);
+                    if (stack.stackSize <= 0) break;
+                }
+            }
+        }
+        return stack.stackSize != before;
+    }
+
+    private static void insertIntoSlot(IInventory target, int slot, ItemStack stack, boolean mergeOnly) {
+        ItemStack existing = target.getStackInSlot(slot);
+        int limit = Math.min(stack.getMaxStackSize(), target.getInventoryStackLimit());
+
+        if (existing == null) {
+            if (mergeOnly || !target.isItemValidForSlot(slot, stack)) return;
+            int amount = Math.min(limit, stack.stackSize);
+            ItemStack placed = stack.copy();
+            placed.stackSize = amount;
+            target.setInventorySlotContents(slot, placed);
+            stack.stackSize -= amount;
+        } else if (existing.isItemEqual(stack) && ItemStack.areItemStackTagsEqual(existing, stack)
+            && target.isItemValidForSlot(slot, stack)) {
+            int amount = Math.min(limit - existing.stackSize, stack.stackSize);
+            if (amount <= 0) return;
+            existing.stackSize += amount;
+            stack.stackSize -= amount;
+        }
+    }
+
+    // ==================== NBT ====================
+
+    void readFromNBT(NBTTagCompound tag) {
+        this.sideMask = tag.getByte("autoEject") & 0x3F;
+        this.neighboursValid = false;
+    }
+
+    void writeToNBT(NBTTagCompound tag) {
+        tag.setByte("autoEject", (byte) this.sideMask);
+    }
+}
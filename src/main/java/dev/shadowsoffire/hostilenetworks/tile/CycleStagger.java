@@ -0,0 +1,81 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.Arrays;
+
+import net.minecraft.tileentity.TileEntity;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+
+/**
+ * Spreads simulation completions of neighbouring machines over different ticks.
+ * <p>
+ * Machines that are filled at the same time would otherwise start and finish every cycle on the same tick, writing
+ * outputs, model NBT and triggering extraction together. Each machine gets a fixed phase from its coordinates, chosen
+ * so adjacent machines differ, and a simulation that starts from idle waits for the next tick matching its phase
+ * within a {@link HostileConfig#staggerWindow}-tick window. Back-to-back cycles start straight away, so a running
+ * machine keeps its place and loses nothing; only the first start after placement, loading or a stall is delayed.
+ * Machines with several model slots shift each slot's phase by another prime step.
+ */
+final class CycleStagger {
+
+    private final TileEntity tile;
+    // Tick the waiting slot may start on, or -1 when not waiting
+    private final long[] startAt;
+    // Set when a slot finished a cycle and may start the next one without waiting
+    private final boolean[] chained;
+
+    CycleStagger(TileEntity tile, int slots) {
+        this.tile = tile;
+        this.startAt = new long[slots];
+        this.chained = new boolean[slots];
+        Arrays.fill(this.startAt, -1L);
+    }
+
+    /**
+     * Get a machine's phase, to be taken modulo the window or stride. Each step along an axis shifts it by a
+     * different prime, so machines in a row, a wall or a block land on different ticks.
+     */
+    static int phaseOf(TileEntity tile) {
+        return tile.xCoord * 3 + tile.zCoord * 7 + tile.yCoord * 11;
+    }
+
+    /**
+     * Called when a slot is ready to start a simulation.
+     *
+     * @return Whether it may start on this tick
+     */
+    boolean mayStart(int slot, long now) {
+        int window = HostileConfig.staggerWindow;
+        if (window <= 1 || this.chained[slot]) {
+            return true;
+        }
+        if (this.startAt[slot] < 0) {
+            long offset = phaseOf(this.tile) + slot * 13L;
+            this.startAt[slot] = now + Math.floorMod(offset - now, (long) window);
+        }
+        return now >= this.startAt[slot];
+    }
+
+    /**
+     * Called when a slot starts a simulation.
+     */
+    void onStarted(int slot) {
+        this.chained[slot] = false;
+        this.startAt[slot] = -1L;
+    }
+
+    /**
+     * Called when a slot finishes a simulation, letting the next one start without waiting.
+     */
+    void onCompleted(int slot) {
+        this.chained[slot] = true;
+    }
+
+    /**
+     * Called when a slot cannot start or its simulation is cancelled, so the next start waits for its phase again.
+     */
+    void reset(int slot) {
+        this.chained[slot] = false;
+        this.startAt[slot] = -1L;
+    }
+}
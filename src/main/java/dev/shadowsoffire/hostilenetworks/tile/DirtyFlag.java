@@ -0,0 +1,51 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+
+/**
+ * Coalesces a machine's {@code markDirty()} calls.
+ * <p>
+ * In 1.7.10 every {@code markDirty()} flags the chunk for saving and notifies neighbours and comparators, and energy
+ * conduits can push into a machine from several sides per tick. Machines record changes here instead and flush once
+ * at the end of their own tick: inventory changes on that same tick, energy and progress changes at most every
+ * {@link HostileConfig#dirtyFlushInterval} ticks. GUIs are unaffected since containers sync progress and energy
+ * themselves.
+ */
+final class DirtyFlag {
+
+    private boolean dirty;
+    private boolean progressDirty;
+    private int progressTicks;
+
+    /**
+     * Record a change to the machine's inventory or other state visible outside its GUI.
+     */
+    void mark() {
+        this.dirty = true;
+    }
+
+    /**
+     * Record a change to energy or progress only.
+     */
+    void markProgress() {
+        this.progressDirty = true;
+    }
+
+    /**
+     * Called once at the end of the owner's tick.
+     *
+     * @return Whether the owner should call {@code markDirty()} now
+     */
+    boolean flush() {
+        if (this.progressDirty && ++this.progressTicks >= HostileConfig.dirtyFlushInterval) {
+            this.dirty = true;
+        }
+        if (!this.dirty) {
+            return false;
+        }
+        this.dirty = false;
+        this.progressDirty = false;
+        this.progressTicks = 0;
+        return true;
+    }
+}
@@ -0,0 +1,158 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.Arrays;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * A weighted rotation of fabricator drops for one data model.
+ * <p>
+ * Each drop index has a weight from 0 to {@link #MAX_WEIGHT}. The schedule expands the weights into a fixed
+ * sequence using smooth weighted round-robin, so 3:1 between drops A and B yields A A B A rather than A A A B,
+ * and the fabricator walks that sequence one craft at a time. The sequence is a pure function of the weights, so
+ * the same schedule always produces the same order on every machine.
+ */
+public final class FabSchedule {
+
+    /** Highest weight a single drop can have */
+    public static final int MAX_WEIGHT = 16;
+
+    private int[] weights;
+    private int cursor;
+    /** Expanded drop sequence, rebuilt lazily after the weights change */
+    private int[] sequence;
+
+    public FabSchedule(int dropCount) {
+        this.weights = new int[dropCount];
+    }
+
+    private FabSchedule(int[] weights, int cursor) {
+        this.weights = weights;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Get the weight of a drop, or 0 if it is not scheduled.
+     */
+    public int getWeight(int dropIndex) {
+        return dropIndex >= 0 && dropIndex < weights.length ? weights[dropIndex] : 0;
+    }
+
+    /**
+     * Set the weight of a drop, clamped to [0, {@link #MAX_WEIGHT}].
+     */
+    public void setWeight(int dropIndex, int weight) {
+        if (dropIndex < 0) return;
+        if (dropIndex >= weights.length) {
+            weights = Arrays.copyOf(weights, dropIndex + 1);
+        }
+        weights[dropIndex] = Math.max(0, Math.min(MAX_WEIGHT, weight));
+        sequence = null;
+        cursor = 0;
+    }
+
+    /**
+     * Get the number of drops with a non-zero weight.
+     */
+    public int getScheduledCount() {
+        int count = 0;
+        for (int weight : weights) {
+            if (weight > 0) count++;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return getScheduledCount() == 0;
+    }
+
+    /**
+     * Get the drop index of the next craft, or -1 if nothing is scheduled.
+     *
+     * @param dropCount Number of drops the model currently has; indices at or past it are skipped
+     */
+    public int current(int dropCount) {
+        int[] seq = getSequence();
+        for (int i = 0; i < seq.length; i++) {
+            int drop = seq[(cursor + i) % seq.length];
+            if (drop < dropCount) {
+                if (i > 0) cursor = (cursor + i) % seq.length;
+                return drop;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Move to the next craft in the sequence.
+     */
+    public void advance() {
+        int[] seq = getSequence();
+        if (seq.length > 0) {
+            cursor = (cursor + 1) % seq.length;
+        }
+    }
+
+    private int[] getSequence() {
+        if (sequence == null) {
+            sequence = buildSequence(weights);
+            if (cursor >= sequence.length) cursor = 0;
+        }
+        return sequence;
+    }
+
+    /**
+     * Expand weights into a sequence with smooth weighted round-robin: every step each drop gains its weight, the
+     * drop with the highest running total is picked and loses the total weight. Ties go to the lower index.
+     */
+    private static int[] buildSequence(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int[] seq = new int[total];
+        int[] current = new int[weights.length];
+        for (int step = 0; step < total; step++) {
+            int best = -1;
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] == 0) continue;
+                current[i] += weights[i];
+                if (best < 0 || current[i] > current[best]) {
+                    best = i;
+                }
+            }
+            current[best] -= total;
+            seq[step] = best;
+        }
+        return seq;
+    }
+
+    public FabSchedule copy() {
+        FabSchedule copy = new FabSchedule(weights.clone(), cursor);
+        copy.sequence = sequence;
+        return copy;
+    }
+
+    // ==================== NBT ====================
+
+    /**
+     * Write the weights and rotation position.
+     *
+     * @param includeCursor Whether to save the position in the rotation, false for copies that should start fresh
+     */
+    public void writeToNBT(NBTTagCompound tag, boolean includeCursor) {
+        tag.setIntArray("weights", weights.clone());
+        if (includeCursor) {
+            tag.setInteger("cursor", cursor);
+        }
+    }
+
+    public static FabSchedule readFromNBT(NBTTagCompound tag) {
+        int[] weights = tag.getIntArray("weights")
+            .clone();
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.max(0, Math.min(MAX_WEIGHT, weights[i]));
+        }
+        return new FabSchedule(weights, Math.max(0, tag.getInteger("cursor")));
+    }
+}
@@ -1,6 +1,7 @@
 package dev.shadowsoffire.hostilenetworks.tile;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
 import dev.shadowsoffire.hostilenetworks.item.HostileItems;
 import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
 import dev.shadowsoffire.hostilenetworks.util.Constants;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
 
 /**
  * TileEntity for the Loot Fabricator machine.
@@ -33,6 +35,31 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     // Inventory - use constants for slot indices
     private final ItemStack[] inventory = new ItemStack[Constants.LOOT_FAB_INVENTORY_SIZE];
 
+    // Output grid slots exposed to automation; shared, must not be modified by callers
+    private static final int[] OUTPUT_SLOTS = new int[Constants.LOOT_FAB_INVENTORY_SIZE - Constants.SLOT_OUTPUT_START];
+
+    static {
+        for (int i = 0; i < OUTPUT_SLOTS.length; i++) {
+            OUTPUT_SLOTS[i] = Constants.SLOT_OUTPUT_START + i;
+        }
+    }
+
+    // Pushes outputs into adjacent inventories on configured sides
+    private final AutoEjector autoEjector = new AutoEjector(this, inventory, OUTPUT_SLOTS);
+    // Pending markDirty, flushed once at the end of the tick
+    private final DirtyFlag dirtyFlag = new DirtyFlag();
+    private final PowerBusLink powerBus = new PowerBusLink(this);
+
+    // Overflow storage behind the output grid
+    private final OutputBuffer outputBuffer = new OutputBuffer();
+
+    // Empty / non-full slot masks over the output grid
+    private final OutputSlotIndex outputIndex = new OutputSlotIndex(
+        inventory,
+        Constants.SLOT_OUTPUT_START,
+        OUTPUT_SLOTS.length,
+        Constants.DEFAULT_STACK_LIMIT);
+
     // State
     private int currentSelection = -1; // Selected drop index for current prediction
     private int progress = 0;
@@ -44,6 +71,21 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     // Saved selections: maps entity ID -> selected drop index
     private final Map<String, Integer> savedSelections = new HashMap<>();
 
+    // Weighted drop rotations: maps entity ID -> schedule, used instead of savedSelections when present
+    private final Map<String, FabSchedule> schedules = new HashMap<>();
+
+    // Predictions consumed by the current cycle
+    private int batchSize = 1;
+
+    // Ticks skipped by the TickGovernor and not yet made up; not saved
+    private int tickDebt;
+
+    // Drop templates of the last fabricated model, see getCompiledDrops
+    private DataModel compiledModel;
+    private List<ItemStack> compiledDrops = Collections.emptyList();
+    private int compiledConfigGeneration = -1;
+    private int compiledRegistryGeneration = -1;
+
     public LootFabTileEntity() {
         super();
     }
@@ -69,6 +111,22 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
         return model.getFabricatorDrops();
     }
 
+    /**
+     * Get the fabricator drops for a model, parsed once and reused until the config or model registry changes.
+     * The returned stacks are shared templates and must not be modified.
+     */
+    private List<ItemStack> getCompiledDrops(DataModel model) {
+        if (model == null) return Collections.emptyList();
+        if (model != this.compiledModel || this.compiledConfigGeneration != HostileConfig.getGeneration()
+            || this.compiledRegistryGeneration != DataModelRegistry.getGeneration()) {
+            this.compiledDrops = getFabricatorDropsWithConfig(model);
+            this.compiledModel = model;
+            this.compiledConfigGeneration = HostileConfig.getGeneration();
+            this.compiledRegistryGeneration = DataModelRegistry.getGeneration();
+        }
+        return this.compiledDrops;
+    }
+
     /**
      * Parse fabricator drops from config string list.
      * Format: "modid:item:count,modid:item:count"
@@ -97,74 +155,151 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     public void updateEntity() {
         if (worldObj == null || worldObj.isRemote) return;
 
+        if (!TickGovernor.isTurn(this, worldObj.getTotalWorldTime())) {
+            this.tickDebt = TickGovernor.defer(this.tickDebt);
+            return;
+        }
+
+        long profileStart = MachineProfiler.begin();
+        try {
+            runTicks();
+            if (this.autoEjector.tick()) {
+                this.outputIndex.invalidate();
+                this.dirtyFlag.mark();
+            }
+            if (this.dirtyFlag.flush()) {
+                super.markDirty(); // The output index is kept up to date above
+            }
+        } finally {
+            MachineProfiler.end(this, profileStart);
+        }
+    }
+
+    /**
+     * Refill the outputs from the buffer and run the fabrication ticks the {@link TickGovernor} allows this turn.
+     * Reads nothing from the world, so it can be driven without one.
+     */
+    void runTicks() {
+        if (!this.outputBuffer.isEmpty() && this.outputBuffer.drainInto(inventory, OUTPUT_SLOTS)) {
+            this.outputIndex.invalidate();
+            this.dirtyFlag.mark();
+        }
+        int ticks = TickGovernor.getTicksToRun(this.tickDebt);
+        int ran = 0;
+        while (ran < ticks && tickFabrication()) {
+            ran++;
+        }
+        this.tickDebt = TickGovernor.settle(this.tickDebt, ticks, ran);
+    }
+
+    /**
+     * Run one server tick of fabrication.
+     *
+     * @return Whether fabrication progressed
+     */
+    private boolean tickFabrication() {
         ItemStack predictionStack = inventory[Constants.SLOT_PREDICTION];
 
         if (predictionStack == null) {
             resetState();
-            return;
+            return false;
         }
 
         String entityId = MobPredictionItem.getEntityId(predictionStack);
         if (entityId == null) {
             resetState();
-            return;
+            return false;
         }
 
         DataModel model = DataModelRegistry.get(entityId);
-        if (model == null || getFabricatorDropsWithConfig(model).isEmpty()) {
+        List<ItemStack> drops = getCompiledDrops(model);
+        if (model == null || drops.isEmpty()) {
             this.isCrafting = false;
-            return;
+            return false;
         }
 
-        // Get the selected drop index for this entity
-        int selection = getSelectedDrop(model);
-        if (selection < 0 || selection >= model.getFabricatorDrops()
-            .size()) {
+        // Get the drop index for this cycle, following the weighted schedule if there is one
+        FabSchedule schedule = getActiveSchedule(entityId);
+        int selection = schedule != null ? schedule.current(drops.size()) : getSelectedDrop(model);
+        if (selection < 0 || selection >= drops.size()) {
             resetState();
-            return;
+            return false;
         }
 
         // Check if selection changed - reset progress
         if (this.currentSelection != selection) {
             this.currentSelection = selection;
             this.progress = 0;
-            return;
+            return false;
         }
 
         // Check if output space is available
         if (!hasOutputSpace()) {
             this.progress = 0;
             this.isCrafting = false;
-            return;
+            return false;
+        }
+
+        // Lock in the batch size at the start of each cycle, shrunk to what the outputs can take
+        ItemStack drop = drops.get(selection);
+        if (this.progress == 0) {
+            int wanted = Math.max(1, Math.min(HostileConfig.fabBatchSize, predictionStack.stackSize));
+            int fit = getCraftsThatFit(drop, wanted);
+            if (fit == 0) {
+                this.isCrafting = false;
+                return false;
+            }
+            this.batchSize = fit;
+        }
+
+        // Predictions taken out mid-cycle shrink the batch, so the remaining ticks only pay for crafts still possible
+        int crafts = Math.min(this.batchSize, predictionStack.stackSize);
+        this.batchSize = crafts;
+
+        // The batch fitted when it was locked, but the outputs may have filled since; wait for room without paying
+        boolean finishing = this.progress + 1 >= Constants.FABRICATION_TICKS;
+        if (finishing && getCraftsThatFit(drop, crafts) < crafts) {
+            this.isCrafting = false;
+            return false;
         }
 
         // Check if we have enough energy to start this tick
-        if (this.energyStored < HostileConfig.fabPowerCost) {
+        int cost = HostileConfig.fabPowerCost * crafts;
+        if (this.energyStored < cost) {
+            // Only take this tick's shortfall from a power bus, leaving the rest of the pool to other machines
+            this.energyStored += this.powerBus
+                .draw(Math.min(cost - this.energyStored, HostileConfig.fabPowerCap - this.energyStored));
+        }
+        if (this.energyStored < cost) {
             this.isCrafting = false;
-            return;
+            return false;
         }
 
         // Start crafting
         this.progress++;
-        this.energyStored -= HostileConfig.fabPowerCost;
-        this.markDirty(); // Sync progress and energy to client
-
-        if (this.progress >= Constants.FABRICATION_TICKS) {
-            // Craft the selected drop
-            List<ItemStack> drops = getFabricatorDropsWithConfig(model);
-            ItemStack drop = drops.get(selection)
-                .copy();
-            if (insertInOutput(drop, true)) {
-                this.progress = 0;
-                insertInOutput(drop, false);
-                this.inventory[Constants.SLOT_PREDICTION].stackSize--;
-                if (this.inventory[Constants.SLOT_PREDICTION].stackSize <= 0) {
-                    this.inventory[Constants.SLOT_PREDICTION] = null;
-                }
-                this.markDirty();
+        this.energyStored -= cost;
+        HostileMetrics.Counter.FAB_ENERGY_CONSUMED.add(cost);
+        this.dirtyFlag.markProgress(); // Progress and energy reach the client through the container
+
+        if (finishing) {
+            // Craft the selected drop once per prediction in the batch
+            int total = drop.stackSize * crafts;
+            this.progress = 0;
+            HostileMetrics.recordFabrication(entityId, selection, total);
+            int overflow = insertInOutput(drop, total, false);
+            this.outputBuffer.add(drop, overflow);
+            predictionStack.stackSize -= crafts;
+            if (predictionStack.stackSize <= 0) {
+                this.inventory[Constants.SLOT_PREDICTION] = null;
+            }
+            if (schedule != null) {
+                schedule.advance();
+                this.currentSelection = schedule.current(drops.size());
             }
+            this.dirtyFlag.mark(); // The output index was updated by the insert
         }
         this.isCrafting = true;
+        return true;
     }
 
     /**
@@ -177,53 +312,31 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     }
 
     /**
-     * Check if any output slot has space for more items.
+     * Check if any output slot or the overflow buffer has space for more items.
      */
     private boolean hasOutputSpace() {
-        for (int i = Constants.SLOT_OUTPUT_START; i < Constants.LOOT_FAB_INVENTORY_SIZE; i++) {
-            if (this.inventory[i] == null || this.inventory[i].stackSize < this.inventory[i].getMaxStackSize()) {
-                return true;
-            }
-        }
-        return false;
+        return this.outputIndex.hasSpace() || this.outputBuffer.hasSpace(1);
     }
 
     /**
-     * Try to insert an item stack into output slots.
-     * 
-     * @return true if the entire stack was inserted, false otherwise
+     * Get how many crafts of a drop fit in the output slots plus the overflow buffer, up to {@code max}.
      */
-    private boolean insertInOutput(ItemStack stack, boolean simulate) {
-        ItemStack remaining = stack.copy();
-
-        // First, try to stack with existing items
-        for (int i = Constants.SLOT_OUTPUT_START; i < Constants.LOOT_FAB_INVENTORY_SIZE
-            && remaining.stackSize > 0; i++) {
-            if (this.inventory[i] != null) {
-                ItemStack existing = this.inventory[i];
-                if (existing.isItemEqual(remaining) && existing.stackSize < existing.getMaxStackSize()) {
-                    int canAdd = Math.min(remaining.stackSize, existing.getMaxStackSize() - existing.stackSize);
-                    if (!simulate) {
-                        existing.stackSize += canAdd;
-                    }
-                    remaining.stackSize -= canAdd;
-                }
-            }
-        }
-
-        // Then, try to fill empty slots
-        for (int i = Constants.SLOT_OUTPUT_START; i < Constants.LOOT_FAB_INVENTORY_SIZE
-            && remaining.stackSize > 0; i++) {
-            if (this.inventory[i] == null) {
-                if (!simulate) {
-                    this.inventory[i] = remaining.copy();
-                }
-                remaining.stackSize = 0;
-                break;
-            }
-        }
+    private int getCraftsThatFit(ItemStack drop, int max) {
+        int perCraft = Math.max(1, drop.stackSize);
+        int wanted = perCraft * max;
+        long room = wanted - insertInOutput(drop, wanted, true)
+            + Math.max(0, HostileConfig.outputBufferCap - this.outputBuffer.getTotal());
+        return (int) Math.min(max, room / perCraft);
+    }
 
-        return remaining.stackSize == 0;
+    /**
+     * Try to insert {@code count} items of the template into the output slots.
+     * The template itself is never modified.
+     *
+     * @return The number of items that did not fit
+     */
+    int insertInOutput(ItemStack template, int count, boolean simulate) {
+        return this.outputIndex.insert(template, count, simulate);
     }
 
     /**
@@ -234,7 +347,7 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     public int getSelectedDrop(DataModel model) {
         if (model == null) return -1;
         Integer selection = savedSelections.get(model.getEntityId());
-        List<ItemStack> drops = getFabricatorDropsWithConfig(model);
+        List<ItemStack> drops = getCompiledDrops(model);
         return (selection == null || selection >= drops.size()) ? -1 : selection;
     }
 
@@ -243,18 +356,106 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
      */
     public void setSelection(DataModel model, int selection) {
         if (model == null) return;
-        List<ItemStack> drops = getFabricatorDropsWithConfig(model);
+        List<ItemStack> drops = getCompiledDrops(model);
 
         if (selection < 0 || selection >= drops.size()) {
             savedSelections.remove(model.getEntityId());
         } else {
             savedSelections.put(model.getEntityId(), selection);
         }
+        // A plain selection replaces any weighted schedule
+        schedules.remove(model.getEntityId());
         this.currentSelection = selection;
         this.progress = 0;
         this.markDirty();
     }
 
+    // ==================== Weighted Schedules ====================
+
+    /**
+     * Get the schedule to follow for an entity, or null if it uses a single selection.
+     * A schedule with fewer than two weighted drops behaves like a plain selection.
+     */
+    private FabSchedule getActiveSchedule(String entityId) {
+        FabSchedule schedule = schedules.get(entityId);
+        return schedule != null && schedule.getScheduledCount() > 1 ? schedule : null;
+    }
+
+    /**
+     * Get the schedule weight of a drop, or 0 if the model has no active schedule.
+     */
+    public int getScheduleWeight(DataModel model, int dropIndex) {
+        if (model == null) return 0;
+        FabSchedule schedule = getActiveSchedule(model.getEntityId());
+        return schedule != null ? schedule.getWeight(dropIndex) : 0;
+    }
+
+    /**
+     * Change the schedule weight of a drop. The current single selection, if any, becomes the first entry
+     * of a new schedule with weight 1. Removing the last weight clears the selection.
+     */
+    public void adjustScheduleWeight(DataModel model, int dropIndex, int delta) {
+        if (model == null) return;
+        List<ItemStack> drops = getCompiledDrops(model);
+        if (dropIndex < 0 || dropIndex >= drops.size()) return;
+
+        String entityId = model.getEntityId();
+        FabSchedule schedule = schedules.get(entityId);
+        if (schedule == null) {
+            schedule = new FabSchedule(drops.size());
+            int selection = getSelectedDrop(model);
+            if (selection >= 0) {
+                schedule.setWeight(selection, 1);
+            }
+        }
+        schedule.setWeight(dropIndex, schedule.getWeight(dropIndex) + delta);
+
+        if (schedule.isEmpty()) {
+            schedules.remove(entityId);
+            savedSelections.remove(entityId);
+        } else {
+            schedules.put(entityId, schedule);
+            // Keep the single selection pointing at a scheduled drop for GUIs and old directives
+            Integer selection = savedSelections.get(entityId);
+            if (selection == null || schedule.getWeight(selection) == 0) {
+                savedSelections.put(entityId, schedule.current(drops.size()));
+            }
+        }
+        this.currentSelection = -1;
+        this.progress = 0;
+        this.markDirty();
+    }
+
+    /**
+     * Get copies of all weighted schedules, keyed by entity ID.
+     */
+    public Map<String, FabSchedule> getSchedules() {
+        Map<String, FabSchedule> copy = new HashMap<>();
+        for (Map.Entry<String, FabSchedule> entry : schedules.entrySet()) {
+            copy.put(
+                entry.getKey(),
+                entry.getValue()
+                    .copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Replace all weighted schedules. Used by FabDirectiveItem.
+     */
+    public void setSchedules(Map<String, FabSchedule> newSchedules) {
+        this.schedules.clear();
+        for (Map.Entry<String, FabSchedule> entry : newSchedules.entrySet()) {
+            this.schedules.put(
+                entry.getKey(),
+                entry.getValue()
+                    .copy());
+        }
+        this.currentSelection = -1;
+        this.progress = 0;
+        this.markDirty();
+    }
+
     /**
      * Get all saved selections from this fabricator.
      * Returns a copy to prevent external modification.
@@ -316,7 +517,7 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
         int toReceive = Math.min(maxReceive, space);
         if (!simulate) {
             energyStored += toReceive;
-            this.markDirty();
+            this.dirtyFlag.markProgress();
         }
         return toReceive;
     }
@@ -384,6 +585,14 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
         if (stack.stackSize <= 0) {
             this.inventory[slot] = null;
         }
+        // Top the grid back up from the buffer so extractors keep seeing full stacks
+        if (slot >= Constants.SLOT_OUTPUT_START && worldObj != null
+            && !worldObj.isRemote
+            && this.outputBuffer.drainInto(inventory, OUTPUT_SLOTS)) {
+            this.outputIndex.invalidate();
+        } else {
+            this.outputIndex.update(slot);
+        }
         return result;
     }
 
@@ -392,6 +601,7 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
         if (this.inventory[slot] == null) return null;
         ItemStack stack = this.inventory[slot];
         this.inventory[slot] = null;
+        this.outputIndex.update(slot);
         return stack;
     }
 
@@ -401,6 +611,17 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
         if (stack != null && stack.stackSize > getInventoryStackLimit()) {
             stack.stackSize = getInventoryStackLimit();
         }
+        this.outputIndex.update(slot);
+    }
+
+    /**
+     * Containers change slot stacks in place and then call this, so the output index is rebuilt on next use.
+     * Internal updates go through the tick's {@link DirtyFlag} and call {@code super.markDirty()} to keep the index.
+     */
+    @Override
+    public void markDirty() {
+        this.outputIndex.invalidate();
+        super.markDirty();
     }
 
     @Override
@@ -443,11 +664,7 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     @Override
     public int[] getAccessibleSlotsFromSide(int side) {
         // All output slots can be accessed from any side
-        int[] slots = new int[Constants.LOOT_FAB_INVENTORY_SIZE - Constants.SLOT_OUTPUT_START];
-        for (int i = 0; i < slots.length; i++) {
-            slots[i] = Constants.SLOT_OUTPUT_START + i;
-        }
-        return slots;
+        return OUTPUT_SLOTS;
     }
 
     @Override
@@ -467,9 +684,13 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
         super.readFromNBT(tag);
 
         TileEntityUtils.readInventoryFromNBT(inventory, tag);
+        this.outputIndex.invalidate();
 
         this.energyStored = tag.getInteger("energy");
         this.progress = tag.getInteger("progress");
+        this.batchSize = Math.max(1, tag.getInteger("batch"));
+        this.autoEjector.readFromNBT(tag);
+        this.outputBuffer.readFromNBT(tag, "outputBuffer");
 
         // Read saved selections
         this.savedSelections.clear();
@@ -480,6 +701,16 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
                 this.savedSelections.put(key, selection);
             }
         }
+
+        // Read weighted schedules
+        this.schedules.clear();
+        NBTTagCompound schedulesTag = tag.getCompoundTag("schedules");
+        for (String key : schedulesTag.func_150296_c()) {
+            FabSchedule schedule = FabSchedule.readFromNBT(schedulesTag.getCompoundTag(key));
+            if (!schedule.isEmpty()) {
+                this.schedules.put(key, schedule);
+            }
+        }
     }
 
     @Override
@@ -490,6 +721,9 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
 
         tag.setInteger("energy", this.energyStored);
         tag.setInteger("progress", this.progress);
+        tag.setInteger("batch", this.batchSize);
+        this.autoEjector.writeToNBT(tag);
+        this.outputBuffer.writeToNBT(tag, "outputBuffer");
 
         // Write saved selections
         NBTTagCompound selectionsTag = new NBTTagCompound();
@@ -497,6 +731,16 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
             selectionsTag.setInteger(entry.getKey(), entry.getValue());
         }
         tag.setTag("savedSelections", selectionsTag);
+
+        // Write weighted schedules
+        NBTTagCompound schedulesTag = new NBTTagCompound();
+        for (Map.Entry<String, FabSchedule> entry : this.schedules.entrySet()) {
+            NBTTagCompound scheduleTag = new NBTTagCompound();
+            entry.getValue()
+                .writeToNBT(scheduleTag, true);
+            schedulesTag.setTag(entry.getKey(), scheduleTag);
+        }
+        tag.setTag("schedules", schedulesTag);
     }
 
     // ==================== Getters ====================
@@ -512,4 +756,22 @@ public class LootFabTileEntity extends TileEntity implements IInventory, ISidedI
     public boolean isCrafting() {
         return isCrafting;
     }
+
+    public AutoEjector getAutoEjector() {
+        return autoEjector;
+    }
+
+    /**
+     * Get the number of items held in the overflow buffer behind the output grid.
+     */
+    public long getBufferedCount() {
+        return outputBuffer.getTotal();
+    }
+
+    /**
+     * Remove everything held in the overflow buffer, for dropping when the block is broken.
+     */
+    public List<ItemStack> removeBufferedItems() {
+        return outputBuffer.removeAll();
+    }
 }
@@ -0,0 +1,317 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import net.minecraft.tileentity.TileEntity;
+
+import cpw.mods.fml.common.Loader;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.HostileNetworks;
+
+/**
+ * Sampled tick profiler for HNN machines.
+ * <p>
+ * While running, a random one in {@link HostileConfig#profilerSampleInterval} machine ticks is timed with
+ * {@link System#nanoTime()} and attributed to the machine (by dimension and position), its chunk and its dimension.
+ * When stopped the only cost per tick is a single boolean check.
+ * All methods must be called from the server thread.
+ */
+public final class MachineProfiler {
+
+    /**
+     * Accumulated timings for a single machine.
+     */
+    public static final class MachineStats {
+
+        public final String type;
+        public final int dimension;
+        public final int x;
+        public final int y;
+        public final int z;
+        public long samples;
+        public long totalNanos;
+        public long maxNanos;
+
+        MachineStats(String type, int dimension, int x, int y, int z) {
+            this.type = type;
+            this.dimension = dimension;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        /**
+         * Get the average sampled tick time in nanoseconds.
+         */
+        public long getAverageNanos() {
+            return samples > 0 ? totalNanos / samples : 0;
+        }
+    }
+
+    /**
+     * Timings aggregated over a chunk or a dimension.
+     */
+    public static final class AggregateStats {
+
+        public final int dimension;
+        public final int chunkX;
+        public final int chunkZ;
+        public int machines;
+        public long samples;
+        public long totalNanos;
+
+        AggregateStats(int dimension, int chunkX, int chunkZ) {
+            this.dimension = dimension;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
+    // Results by dimension, then by packed position, so a reloaded or replaced tile keeps its entry
+    private static final Map<Integer, Map<Long, MachineStats>> STATS = new HashMap<>();
+
+    private static boolean running;
+    private static long startedAt;
+    private static long stoppedAt;
+
+    private MachineProfiler() {}
+
+    // ==================== Instrumentation ====================
+
+    /**
+     * Called at the start of a machine tick.
+     *
+     * @return The start timestamp if this tick is sampled, or 0 if it is not
+     */
+    public static long begin() {
+        if (!running) {
+            return 0L;
+        }
+        // A random draw rather than a shared counter: tile tick order is fixed, so every N-th tick of a shared
+        // counter would keep landing on the same machines
+        if (HostileConfig.profilerSampleInterval > 1 && ThreadLocalRandom.current()
+            .nextInt(HostileConfig.profilerSampleInterval) != 0) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Called at the end of a machine tick with the value returned by {@link #begin()}.
+     */
+    public static void end(TileEntity tile, long start) {
+        if (start == 0L || !running) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int dimension = tile.getWorldObj().provider.dimensionId;
+        Map<Long, MachineStats> machines = STATS.get(dimension);
+        if (machines == null) {
+            machines = new HashMap<>();
+            STATS.put(dimension, machines);
+        }
+        long key = packPosition(tile.xCoord, tile.yCoord, tile.zCoord);
+        String type = getMachineType(tile);
+        MachineStats stats = machines.get(key);
+        if (stats == null || !stats.type.equals(type)) {
+            stats = new MachineStats(type, dimension, tile.xCoord, tile.yCoord, tile.zCoord);
+            machines.put(key, stats);
+        }
+        stats.samples++;
+        stats.totalNanos += elapsed;
+        if (elapsed > stats.maxNanos) {
+            stats.maxNanos = elapsed;
+        }
+    }
+
+    /**
+     * Pack a block position into a long: 26 bits each for x and z, 12 bits for y.
+     */
+    private static long packPosition(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+    }
+
+    private static String getMachineType(TileEntity tile) {
+        if (tile instanceof SimChamberTileEntity) return "sim_chamber";
+        if (tile instanceof LootFabTileEntity) return "loot_fabricator";
+        if (tile instanceof SimArrayTileEntity) return "sim_array";
+        return tile.getClass()
+            .getSimpleName();
+    }
+
+    // ==================== Control ====================
+
+    /**
+     * Start a new profiling session, discarding any previous results.
+     */
+    public static void start() {
+        STATS.clear();
+        startedAt = System.currentTimeMillis();
+        stoppedAt = 0L;
+        running = true;
+    }
+
+    /**
+     * Stop the current session. Results are kept until the next {@link #start()}.
+     */
+    public static void stop() {
+        if (running) {
+            running = false;
+            stoppedAt = System.currentTimeMillis();
+        }
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Get the wall-clock duration of the current or last session in milliseconds.
+     */
+    public static long getSessionMillis() {
+        if (startedAt == 0L) return 0L;
+        return (running ? System.currentTimeMillis() : stoppedAt) - startedAt;
+    }
+
+    // ==================== Reporting ====================
+
+    /**
+     * Get all machine results, most expensive (by total sampled time) first.
+     */
+    public static List<MachineStats> getMachinesByCost() {
+        List<MachineStats> result = new ArrayList<>();
+        for (Map<Long, MachineStats> machines : STATS.values()) {
+            result.addAll(machines.values());
+        }
+        result.sort((a, b) -> Long.compare(b.totalNanos, a.totalNanos));
+        return result;
+    }
+
+    /**
+     * Aggregate machine results per chunk, most expensive first.
+     */
+    public static List<AggregateStats> getChunksByCost() {
+        Map<Long, AggregateStats> chunks = new HashMap<>();
+        for (MachineStats stats : getMachinesByCost()) {
+            int chunkX = stats.x >> 4;
+            int chunkZ = stats.z >> 4;
+            // Chunk coordinates fit in 22 bits each within the world border
+            long key = ((long) stats.dimension << 44) | ((chunkZ & 0x3FFFFFL) << 22) | (chunkX & 0x3FFFFFL);
+            AggregateStats chunk = chunks.get(key);
+            if (chunk == null) {
+                chunk = new AggregateStats(stats.dimension, chunkX, chunkZ);
+                chunks.put(key, chunk);
+            }
+            accumulate(chunk, stats);
+        }
+        return sortAggregates(chunks.values());
+    }
+
+    /**
+     * Aggregate machine results per dimension, most expensive first.
+     */
+    public static List<AggregateStats> getDimensionsByCost() {
+        Map<Integer, AggregateStats> dimensions = new HashMap<>();
+        for (MachineStats stats : getMachinesByCost()) {
+            AggregateStats dimension = dimensions.get(stats.dimension);
+            if (dimension == null) {
+                dimension = new AggregateStats(stats.dimension, 0, 0);
+                dimensions.put(stats.dimension, dimension);
+            }
+            accumulate(dimension, stats);
+        }
+        return sortAggregates(dimensions.values());
+    }
+
+    private static void accumulate(AggregateStats aggregate, MachineStats stats) {
+        aggregate.machines++;
+        aggregate.samples += stats.samples;
+        aggregate.totalNanos += stats.totalNanos;
+    }
+
+    private static List<AggregateStats> sortAggregates(Collection<AggregateStats> values) {
+        List<AggregateStats> result = new ArrayList<>(values);
+        result.sort((a, b) -> Long.compare(b.totalNanos, a.totalNanos));
+        return result;
+    }
+
+    /**
+     * Write the full report (machines, chunks and dimensions) to a CSV file under config/hostilenetworks/.
+     *
+     * @return The written file
+     */
+    public static File writeCsv() throws IOException {
+        File dir = new File(Loader.instance().getConfigDir(), HostileNetworks.MODID);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create directory " + dir);
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(dir, "profile-" + timestamp + ".csv");
+
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("scope,type,dimension,x,y,z,machines,samples,total_ns,avg_ns,max_ns");
+            for (MachineStats stats : getMachinesByCost()) {
+                out.println(
+                    "machine," + stats.type
+                        + ","
+                        + stats.dimension
+                        + ","
+                        + stats.x
+                        + ","
+                        + stats.y
+                        + ","
+                        + stats.z
+                        + ",1,"
+                        + stats.samples
+                        + ","
+                        + stats.totalNanos
+                        + ","
+                        + stats.getAverageNanos()
+                        + ","
+                        + stats.maxNanos);
+            }
+            for (AggregateStats chunk : getChunksByCost()) {
+                out.println(
+                    "chunk,," + chunk.dimension
+                        + ","
+                        + chunk.chunkX
+                        + ",,"
+                        + chunk.chunkZ
+                        + ","
+                        + chunk.machines
+                        + ","
+                        + chunk.samples
+                        + ","
+                        + chunk.totalNanos
+                        + ","
+                        + (chunk.samples > 0 ? chunk.totalNanos / chunk.samples : 0)
+                        + ",");
+            }
+            for (AggregateStats dimension : getDimensionsByCost()) {
+                out.println(
+                    "dimension,," + dimension.dimension
+                        + ",,,,"
+                        + dimension.machines
+                        + ","
+                        + dimension.samples
+                        + ","
+                        + dimension.totalNanos
+                        + ","
+                        + (dimension.samples > 0 ? dimension.totalNanos / dimension.samples : 0)
+                        + ",");
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,200 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+
+/**
+ * Internal overflow storage behind a machine's output slots.
+ * <p>
+ * Items that do not fit in the output slots are kept as a long count per item template, up to
+ * {@link HostileConfig#outputBufferCap} items in total. The machine refills its output slots from the buffer whenever
+ * they drain, so automation sees an ordinary 64-stack that keeps coming back while the buffer lasts.
+ * A machine normally only produces one or two distinct items, so templates live in a small array searched linearly.
+ */
+public final class OutputBuffer {
+
+    private ItemStack[] templates = new ItemStack[2];
+    private long[] counts = new long[2];
+    private int size;
+    private long total;
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * Get the number of buffered items across all templates.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Whether {@code amount} more items fit under the configured cap.
+     */
+    public boolean hasSpace(long amount) {
+        return hasSpace(amount, HostileConfig.outputBufferCap);
+    }
+
+    /**
+     * Whether {@code amount} more items fit under the given cap, for owners with their own limit.
+     */
+    public boolean hasSpace(long amount, long cap) {
+        return total + amount <= cap;
+    }
+
+    /**
+     * Buffer {@code amount} items of the given stack's type. The stack itself is not modified or retained.
+     */
+    public void add(ItemStack stack, long amount) {
+        if (amount <= 0) return;
+        int index = indexOf(stack);
+        if (index < 0) {
+            if (size == templates.length) {
+                templates = Arrays.copyOf(templates, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            ItemStack template = stack.copy();
+            template.stackSize = 1;
+            templates[size] = template;
+            index = size++;
+        }
+        counts[index] += amount;
+        total += amount;
+    }
+
+    /**
+     * Move buffered items into the given slots, merging into matching stacks before filling empty ones.
+     *
+     * @return Whether any items were moved
+     */
+    public boolean drainInto(ItemStack[] inventory, int[] slots) {
+        if (total == 0) return false;
+
+        boolean moved = false;
+        for (int i = 0; i < size; i++) {
+            ItemStack template = templates[i];
+            int maxStack = Math.min(template.getMaxStackSize(), Constants.DEFAULT_STACK_LIMIT);
+            for (int pass = 0; pass < 2 && counts[i] > 0; pass++) {
+                for (int slot : slots) {
+                    ItemStack existing = inventory[slot];
+                    int amount;
+                    if (existing == null) {
+                        if (pass == 0) continue;
+                        amount = (int) Math.min(maxStack, counts[i]);
+                        existing = template.copy();
+                        existing.stackSize = amount;
+                        inventory[slot] = existing;
+                    } else if (matches(existing, template)) {
+                        amount = (int) Math.min(maxStack - existing.stackSize, counts[i]);
+                        if (amount <= 0) continue;
+                        existing.stackSize += amount;
+                    } else {
+                        continue;
+                    }
+                    counts[i] -= amount;
+                    total -= amount;
+                    moved = true;
+                    if (counts[i] == 0) break;
+                }
+            }
+        }
+        if (moved) {
+            compact();
+        }
+        return moved;
+    }
+
+    /**
+     * Empty the buffer, returning its contents as stacks no larger than each item's max stack size.
+     */
+    public List<ItemStack> removeAll() {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int maxStack = templates[i].getMaxStackSize();
+            for (long left = counts[i]; left > 0; left -= maxStack) {
+                ItemStack stack = templates[i].copy();
+                stack.stackSize = (int) Math.min(maxStack, left);
+                stacks.add(stack);
+            }
+            templates[i] = null;
+            counts[i] = 0;
+        }
+        size = 0;
+        total = 0;
+        return stacks;
+    }
+
+    private int indexOf(ItemStack stack) {
+        for (int i = 0; i < size; i++) {
+            if (matches(stack, templates[i])) return i;
+        }
+        return -1;
+    }
+
+    private static boolean matches(ItemStack stack, ItemStack template) {
+        return stack.isItemEqual(template) && ItemStack.areItemStackTagsEqual(stack, template);
+    }
+
+    /**
+     * Drop templates whose count reached zero.
+     */
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (counts[read] > 0) {
+                templates[write] = templates[read];
+                counts[write] = counts[read];
+                write++;
+            }
+        }
+        for (int i = write; i < size; i++) {
+            templates[i] = null;
+            counts[i] = 0;
+        }
+        size = write;
+    }
+
+    // ==================== NBT ====================
+
+    public void readFromNBT(NBTTagCompound tag, String key) {
+        Arrays.fill(templates, null);
+        Arrays.fill(counts, 0L);
+        size = 0;
+        total = 0;
+
+        NBTTagList list = tag.getTagList(key, Constants.TAG_COMPOUND);
+        for (int i = 0; i < list.tagCount(); i++) {
+            NBTTagCompound entry = list.getCompoundTagAt(i);
+            ItemStack template = ItemStack.loadItemStackFromNBT(entry);
+            if (template != null) {
+                HostileItems.normalizeModelDamage(template);
+                add(template, entry.getLong("amount"));
+            }
+        }
+    }
+
+    public void writeToNBT(NBTTagCompound tag, String key) {
+        if (size == 0) {
+            tag.removeTag(key);
+            return;
+        }
+        NBTTagList list = new NBTTagList();
+        for (int i = 0; i < size; i++) {
+            NBTTagCompound entry = new NBTTagCompound();
+            templates[i].writeToNBT(entry);
+            entry.setLong("amount", counts[i]);
+            list.appendTag(entry);
+        }
+        tag.setTag(key, list);
+    }
+}
@@ -0,0 +1,176 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.Arrays;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Occupancy index over a contiguous range of up to 32 output slots.
+ * <p>
+ * Keeps a bitmask of empty slots and, per item key (item id + meta), a bitmask of slots holding that item that are
+ * not yet full. Space checks and inserts only visit candidate slots and never allocate except for the stack placed
+ * into an empty slot. The owner must call {@link #update(int)} or {@link #invalidate()} whenever the slots change
+ * outside of {@link #insert(ItemStack, int, boolean)}; an invalidated index is rebuilt on next use.
+ */
+final class OutputSlotIndex {
+
+    private final ItemStack[] inventory;
+    private final int start;
+    private final int count;
+    private final int stackLimit;
+
+    private int emptyMask;
+    /** Item keys present in the slots, with the matching non-full slot mask at the same index */
+    private final long[] keys;
+    private final int[] nonFullMasks;
+    private int keyCount;
+    private boolean valid;
+
+    OutputSlotIndex(ItemStack[] inventory, int start, int count, int stackLimit) {
+        this.inventory = inventory;
+        this.start = start;
+        this.count = count;
+        this.stackLimit = stackLimit;
+        this.keys = new long[count];
+        this.nonFullMasks = new int[count];
+    }
+
+    /**
+     * Mark the whole index stale, to be rebuilt on next use.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Refresh a single slot after it changed. Slots outside the indexed range are ignored.
+     */
+    void update(int slot) {
+        if (!valid) return;
+        int bit = slot - start;
+        if (bit < 0 || bit >= count) return;
+
+        int flag = 1 << bit;
+        emptyMask &= ~flag;
+        for (int i = 0; i < keyCount; i++) {
+            nonFullMasks[i] &= ~flag;
+        }
+        add(bit, inventory[slot]);
+    }
+
+    /**
+     * Whether any slot is empty or holds a stack that is not full.
+     */
+    boolean hasSpace() {
+        ensureValid();
+        if (emptyMask != 0) return true;
+        for (int i = 0; i < keyCount; i++) {
+            if (nonFullMasks[i] != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Insert {@code amount} items of the template, topping up matching stacks before filling empty slots.
+     * The template itself is never modified.
+     *
+     * @return The number of items that did not fit
+     */
+    int insert(ItemStack template, int amount, boolean simulate) {
+        ensureValid();
+        int maxStack = Math.min(template.getMaxStackSize(), stackLimit);
+        long key = key(template);
+        int remaining = amount;
+
+        int k = indexOf(key);
+        if (k >= 0) {
+            int mask = nonFullMasks[k];
+            while (remaining > 0 && mask != 0) {
+                int bit = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                ItemStack existing = inventory[start + bit];
+                if (!ItemStack.areItemStackTagsEqual(existing, template)) continue;
+                int added = Math.min(remaining, maxStack - existing.stackSize);
+                if (added <= 0) continue;
+                remaining -= added;
+                if (!simulate) {
+                    existing.stackSize += added;
+                    if (existing.stackSize >= maxStack) {
+                        nonFullMasks[k] &= ~(1 << bit);
+                    }
+                }
+            }
+        }
+
+        int empty = emptyMask;
+        while (remaining > 0 && empty != 0) {
+            int bit = Integer.numberOfTrailingZeros(empty);
+            empty &= empty - 1;
+            int added = Math.min(remaining, maxStack);
+            remaining -= added;
+            if (!simulate) {
+                ItemStack placed = template.copy();
+                placed.stackSize = added;
+                inventory[start + bit] = placed;
+                emptyMask &= ~(1 << bit);
+                add(bit, placed);
+            }
+        }
+        return remaining;
+    }
+
+    private void ensureValid() {
+        if (valid) return;
+        emptyMask = 0;
+        keyCount = 0;
+        Arrays.fill(nonFullMasks, 0);
+        for (int bit = 0; bit < count; bit++) {
+            add(bit, inventory[start + bit]);
+        }
+        valid = true;
+    }
+
+    /**
+     * Record the slot's current contents. The slot must not be marked in any mask yet.
+     */
+    private void add(int bit, ItemStack stack) {
+        int flag = 1 << bit;
+        if (stack == null) {
+            emptyMask |= flag;
+            return;
+        }
+        if (stack.getItem() == null || stack.stackSize >= Math.min(stack.getMaxStackSize(), stackLimit)) {
+            return;
+        }
+        long key = key(stack);
+        int k = indexOf(key);
+        if (k < 0) {
+            // Reuse an entry whose slots have all filled up or emptied; there is always one once every slot has a key
+            k = indexOfUnused();
+            if (k < 0) {
+                k = keyCount++;
+            }
+            keys[k] = key;
+        }
+        nonFullMasks[k] |= flag;
+    }
+
+    private int indexOf(long key) {
+        for (int i = 0; i < keyCount; i++) {
+            if (keys[i] == key) return i;
+        }
+        return -1;
+    }
+
+    private int indexOfUnused() {
+        for (int i = 0; i < keyCount; i++) {
+            if (nonFullMasks[i] == 0) return i;
+        }
+        return -1;
+    }
+
+    private static long key(ItemStack stack) {
+        return ((long) Item.getIdFromItem(stack.getItem()) << 32) | (stack.getItemDamage() & 0xFFFFFFFFL);
+    }
+}
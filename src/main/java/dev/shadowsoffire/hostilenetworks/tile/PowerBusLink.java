@@ -0,0 +1,57 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import net.minecraft.tileentity.TileEntity;
+
+/**
+ * A machine's connection to the nearest {@link PowerBusTileEntity}.
+ * <p>
+ * The bus is looked up once and kept until it is broken, unloaded or moved out of range by a config change.
+ * Unlinked machines retry every {@link #SCAN_INTERVAL} ticks, so a newly placed bus is picked up shortly after.
+ */
+final class PowerBusLink {
+
+    /** Ticks between searches while no bus is in range */
+    private static final int SCAN_INTERVAL = 100;
+
+    private final TileEntity owner;
+    private PowerBusTileEntity bus;
+    private int scanCooldown;
+
+    PowerBusLink(TileEntity owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Pull up to {@code amount} energy from the linked bus.
+     *
+     * @return The energy received, 0 if there is no bus or it is empty
+     */
+    int draw(int amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        PowerBusTileEntity linked = getBus();
+        return linked != null ? linked.extract(amount) : 0;
+    }
+
+    /**
+     * Get the linked bus, searching for one if needed. Returns null if none is in range.
+     */
+    PowerBusTileEntity getBus() {
+        if (this.bus != null && (this.bus.isInvalid() || !this.bus.isInRange(this.owner))) {
+            this.bus = null;
+            this.scanCooldown = 0;
+        }
+        if (this.bus == null) {
+            if (this.scanCooldown > 0) {
+                this.scanCooldown--;
+                return null;
+            }
+            this.bus = PowerBusTileEntity.findFor(this.owner);
+            if (this.bus == null) {
+                this.scanCooldown = SCAN_INTERVAL;
+            }
+        }
+        return this.bus;
+    }
+}
@@ -0,0 +1,196 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import cofh.api.energy.IEnergyReceiver;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+
+/**
+ * Tile entity for the Power Bus block.
+ * <p>
+ * Holds one long-valued energy pool that accepts RF like any other receiver and feeds every Simulation Chamber,
+ * Loot Fabricator and Simulation Array within {@link HostileConfig#powerBusRadius} blocks. Machines pull what they
+ * need for the tick with a single subtraction (see {@link PowerBusLink}), so a conduit network only has to deliver
+ * into the bus instead of into each machine. The bus itself does not tick.
+ */
+public class PowerBusTileEntity extends TileEntity implements IEnergyReceiver {
+
+    // Loaded buses, searched by machines that are not linked yet
+    private static final Set<PowerBusTileEntity> LOADED = Collections
+        .newSetFromMap(new WeakHashMap<PowerBusTileEntity, Boolean>());
+
+    private long energyStored = 0;
+    // World time the chunk was last flagged for saving
+    private long lastFlaggedTick = -1L;
+
+    @Override
+    public boolean canUpdate() {
+        return false;
+    }
+
+    @Override
+    public void validate() {
+        super.validate();
+        if (worldObj != null && !worldObj.isRemote) {
+            synchronized (LOADED) {
+                LOADED.add(this);
+            }
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        synchronized (LOADED) {
+            LOADED.remove(this);
+        }
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        synchronized (LOADED) {
+            LOADED.remove(this);
+        }
+    }
+
+    /**
+     * Find the closest loaded bus in range of a machine, or null if there is none.
+     */
+    static PowerBusTileEntity findFor(TileEntity machine) {
+        List<PowerBusTileEntity> buses;
+        synchronized (LOADED) {
+            if (LOADED.isEmpty()) return null;
+            buses = new ArrayList<>(LOADED);
+        }
+
+        PowerBusTileEntity closest = null;
+        double closestDist = Double.MAX_VALUE;
+        for (PowerBusTileEntity bus : buses) {
+            if (bus.worldObj != machine.getWorldObj() || bus.isInvalid() || !bus.isInRange(machine)) continue;
+            double dist = bus.getDistanceFrom(machine.xCoord + 0.5, machine.yCoord + 0.5, machine.zCoord + 0.5);
+            if (dist < closestDist) {
+                closest = bus;
+                closestDist = dist;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Whether a machine lies inside this bus's cube of influence.
+     */
+    boolean isInRange(TileEntity machine) {
+        int radius = HostileConfig.powerBusRadius;
+        return Math.abs(machine.xCoord - xCoord) <= radius && Math.abs(machine.yCoord - yCoord) <= radius
+            && Math.abs(machine.zCoord - zCoord) <= radius;
+    }
+
+    /**
+     * Take up to {@code amount} energy from the pool.
+     *
+     * @return The energy actually taken
+     */
+    public int extract(int amount) {
+        if (amount <= 0 || this.energyStored <= 0) {
+            return 0;
+        }
+        int taken = (int) Math.min(amount, this.energyStored);
+        this.energyStored -= taken;
+        onPoolChanged();
+        return taken;
+    }
+
+    /**
+     * Conduits and machines touch the pool many times per tick, so flag the chunk for saving on the first change of
+     * each tick only. Chunks are saved and unloaded outside tile entity ticks, so later changes in the same tick are
+     * covered by that flag. Only the chunk flag is set: the bus has no comparator output, so the neighbour updates of
+     * {@code markDirty()} are skipped.
+     */
+    private void onPoolChanged() {
+        if (worldObj == null) {
+            return;
+        }
+        long now = worldObj.getTotalWorldTime();
+        if (now != this.lastFlaggedTick) {
+            this.lastFlaggedTick = now;
+            worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+        }
+    }
+
+    public long getEnergy() {
+        return this.energyStored;
+    }
+
+    public long getCapacity() {
+        return HostileConfig.powerBusCapacity;
+    }
+
+    /**
+     * Count the machines currently in range. Scans tile entities, so only meant for player-triggered readouts.
+     */
+    public int countMachinesInRange() {
+        int count = 0;
+        for (Object obj : worldObj.loadedTileEntityList) {
+            TileEntity tile = (TileEntity) obj;
+            if ((tile instanceof SimChamberTileEntity || tile instanceof LootFabTileEntity
+                || tile instanceof SimArrayTileEntity) && isInRange(tile)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // ==================== IEnergyReceiver ====================
+
+    @Override
+    public int receiveEnergy(ForgeDirection from, int maxReceive, boolean simulate) {
+        long space = getCapacity() - this.energyStored;
+        if (space <= 0) {
+            return 0;
+        }
+        int toReceive = (int) Math.min(maxReceive, space);
+        if (!simulate) {
+            this.energyStored += toReceive;
+            onPoolChanged();
+        }
+        return toReceive;
+    }
+
+    @Override
+    public int getEnergyStored(ForgeDirection from) {
+        return (int) Math.min(Integer.MAX_VALUE, this.energyStored);
+    }
+
+    @Override
+    public int getMaxEnergyStored(ForgeDirection from) {
+        return (int) Math.min(Integer.MAX_VALUE, getCapacity());
+    }
+
+    @Override
+    public boolean canConnectEnergy(ForgeDirection from) {
+        return from != ForgeDirection.UNKNOWN;
+    }
+
+    // ==================== NBT ====================
+
+    @Override
+    public void readFromNBT(NBTTagCompound tag) {
+        super.readFromNBT(tag);
+        this.energyStored = Math.max(0, tag.getLong("energy"));
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound tag) {
+        super.writeToNBT(tag);
+        tag.setLong("energy", this.energyStored);
+    }
+}
@@ -0,0 +1,576 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import cofh.api.energy.IEnergyReceiver;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.data.DataModelInstance;
+import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
+import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
+
+/**
+ * TileEntity for the Simulation Array.
+ * <p>
+ * Hosts up to {@link HostileConfig#simArraySlots} data models that each simulate like a Simulation Chamber, sharing
+ * one matrix slot, one energy buffer and one output grid with an overflow buffer. Per-slot state lives in primitive
+ * arrays and the tick is a single loop over them; models are only re-resolved when a slot or the config changes.
+ */
+public class SimArrayTileEntity extends TileEntity implements ISidedInventory, IEnergyReceiver {
+
+    private static final Random RANDOM = new Random();
+    private static final int MODEL_SLOTS = Constants.SIM_ARRAY_MODEL_SLOTS;
+
+    // Slots exposed to automation; shared, must not be modified by callers
+    private static final int[] ACCESSIBLE_SLOTS = new int[Constants.SIM_ARRAY_INVENTORY_SIZE];
+    private static final int[] OUTPUT_SLOTS = new int[Constants.SIM_ARRAY_OUTPUT_SLOTS];
+
+    static {
+        for (int i = 0; i < ACCESSIBLE_SLOTS.length; i++) {
+            ACCESSIBLE_SLOTS[i] = i;
+        }
+        for (int i = 0; i < OUTPUT_SLOTS.length; i++) {
+            OUTPUT_SLOTS[i] = Constants.SLOT_ARRAY_OUTPUT_START + i;
+        }
+    }
+
+    private final ItemStack[] inventory = new ItemStack[Constants.SIM_ARRAY_INVENTORY_SIZE];
+
+    private final OutputSlotIndex outputIndex = new OutputSlotIndex(
+        inventory,
+        Constants.SLOT_ARRAY_OUTPUT_START,
+        Constants.SIM_ARRAY_OUTPUT_SLOTS,
+        Constants.DEFAULT_STACK_LIMIT);
+    private final OutputBuffer outputBuffer = new OutputBuffer();
+    private final AutoEjector autoEjector = new AutoEjector(this, inventory, OUTPUT_SLOTS);
+    // Pending markDirty, flushed once at the end of the tick
+    private final DirtyFlag dirtyFlag = new DirtyFlag();
+    private final PowerBusLink powerBus = new PowerBusLink(this);
+    // Per-slot start phases, so slots filled together do not all finish on the same tick
+    private final CycleStagger stagger = new CycleStagger(this, MODEL_SLOTS);
+
+    // Per-slot simulation state
+    private final int[] runtime = new int[MODEL_SLOTS];
+    private final int[] predictions = new int[MODEL_SLOTS];
+    // Per-slot energy per tick, 0 when the slot cannot simulate
+    private final int[] costs = new int[MODEL_SLOTS];
+    private final DataModelInstance[] models = new DataModelInstance[MODEL_SLOTS];
+    private int totalCost;
+
+    // Set when model slots change, so the next tick re-resolves them
+    private boolean slotsChanged = true;
+    private int configGeneration = -1;
+    private int registryGeneration = -1;
+
+    private int energyStored = 0;
+
+    // Ticks skipped by the TickGovernor and not yet made up; not saved
+    private int tickDebt;
+
+    @Override
+    public void updateEntity() {
+        if (worldObj == null || worldObj.isRemote) {
+            return;
+        }
+
+        if (!TickGovernor.isTurn(this, worldObj.getTotalWorldTime())) {
+            this.tickDebt = TickGovernor.defer(this.tickDebt);
+            return;
+        }
+
+        long profileStart = MachineProfiler.begin();
+        try {
+            if (!this.outputBuffer.isEmpty() && this.outputBuffer.drainInto(inventory, OUTPUT_SLOTS)) {
+                this.outputIndex.invalidate();
+                this.dirtyFlag.mark();
+            }
+            int ticks = TickGovernor.getTicksToRun(this.tickDebt);
+            int ran = 0;
+            while (ran < ticks && tickModels()) {
+                ran++;
+            }
+            this.tickDebt = TickGovernor.settle(this.tickDebt, ticks, ran);
+            if (this.autoEjector.tick()) {
+                this.outputIndex.invalidate();
+                this.dirtyFlag.mark();
+            }
+            if (this.dirtyFlag.flush()) {
+                super.markDirty(); // The output index is kept up to date above
+            }
+        } finally {
+            MachineProfiler.end(this, profileStart);
+        }
+    }
+
+    /**
+     * Advance every hosted model by one tick.
+     *
+     * @return Whether any model started or progressed
+     */
+    private boolean tickModels() {
+        if (this.slotsChanged || this.configGeneration != HostileConfig.getGeneration()
+            || this.registryGeneration != DataModelRegistry.getGeneration()) {
+            refreshSlots();
+        }
+        if (this.totalCost == 0) {
+            return false;
+        }
+
+        // Top up from a power bus with what every hosted model needs this tick
+        int shortfall = Math.min(this.totalCost - this.energyStored, getMaxEnergyStored() - this.energyStored);
+        if (shortfall > 0) {
+            this.energyStored += this.powerBus.draw(shortfall);
+        }
+
+        long now = worldObj.getTotalWorldTime();
+        int energy = this.energyStored;
+        int consumed = 0;
+        boolean advanced = false;
+        int slots = Math.min(HostileConfig.simArraySlots, MODEL_SLOTS);
+        for (int i = 0; i < slots; i++) {
+            int cost = this.costs[i];
+            if (cost == 0 || energy < cost) {
+                this.stagger.reset(i);
+                continue;
+            }
+
+            if (this.runtime[i] == 0) {
+                if (!canStart()) {
+                    this.stagger.reset(i);
+                    continue;
+                }
+                if (!this.stagger.mayStart(i, now)) continue;
+                this.stagger.onStarted(i);
+                consumeMatrix();
+                this.runtime[i] = Constants.SIMULATION_TICKS;
+                this.predictions[i] = SimulationRules.rollPredictions(this.models[i], RANDOM);
+            } else if (--this.runtime[i] == 0) {
+                completeSimulation(i);
+                this.stagger.onCompleted(i);
+            } else {
+                energy -= cost;
+                consumed += cost;
+            }
+            advanced = true;
+        }
+
+        if (consumed > 0) {
+            this.energyStored = energy;
+            HostileMetrics.Counter.SIM_ENERGY_CONSUMED.add(consumed);
+            this.dirtyFlag.markProgress();
+        }
+        return advanced;
+    }
+
+    /**
+     * Whether a new simulation can start: a matrix is available and there is room for its output.
+     */
+    private boolean canStart() {
+        if (!HostileItems.isPredictionMatrix(inventory[Constants.SLOT_ARRAY_MATRIX])) {
+            return false;
+        }
+        return this.outputIndex.hasSpace() || this.outputBuffer.hasSpace(1);
+    }
+
+    private void consumeMatrix() {
+        ItemStack matrix = inventory[Constants.SLOT_ARRAY_MATRIX];
+        if (--matrix.stackSize <= 0) {
+            inventory[Constants.SLOT_ARRAY_MATRIX] = null;
+        }
+        this.dirtyFlag.mark();
+    }
+
+    /**
+     * Produce a finished simulation's drops and advance its model, using the Simulation Chamber's rules.
+     */
+    private void completeSimulation(int slot) {
+        DataModelInstance instance = this.models[slot];
+        DataModel model = instance.getModel();
+
+        ItemStack baseDrop = model.getBaseDrop();
+        if (baseDrop != null && baseDrop.getItem() != null) {
+            output(baseDrop, 1);
+        }
+        int success = this.predictions[slot];
+        ItemStack prediction = HostileItems.mob_prediction != null
+            ? MobPredictionItem.getTemplate(model.getEntityId())
+            : null;
+        if (success > 0 && prediction != null) {
+            output(prediction, success);
+        }
+        HostileMetrics.recordSimulation(success);
+
+        SimulationRules.completeCycle(instance, inventory[slot]);
+        this.predictions[slot] = 0;
+        this.dirtyFlag.mark();
+    }
+
+    /**
+     * Insert into the output grid, buffering whatever does not fit.
+     */
+    private void output(ItemStack template, int amount) {
+        int overflow = this.outputIndex.insert(template, amount, false);
+        this.outputBuffer.add(template, overflow);
+    }
+
+    /**
+     * Re-resolve the model in every slot. A slot whose stack was swapped restarts from zero.
+     */
+    private void refreshSlots() {
+        int slots = Math.min(HostileConfig.simArraySlots, MODEL_SLOTS);
+        int total = 0;
+        for (int i = 0; i < MODEL_SLOTS; i++) {
+            ItemStack stack = inventory[i];
+            DataModelInstance instance = this.models[i];
+            if (stack == null || i >= slots || !DataModelItem.isAttuned(stack)) {
+                instance = null;
+            } else if (instance == null || instance.getSourceStack() != stack) {
+                instance = new DataModelInstance(stack, i);
+            }
+            if (instance != this.models[i]) {
+                this.runtime[i] = 0;
+                this.predictions[i] = 0;
+                this.models[i] = instance;
+            }
+
+            int cost = 0;
+            if (instance != null && instance.isValid()
+                && instance.getTier()
+                    .canSim()
+                && HostileConfig.isModelEnabled(
+                    instance.getModel()
+                        .getEntityId())) {
+                cost = instance.getModel()
+                    .getSimCostWithConfig();
+            }
+            this.costs[i] = cost;
+            total += cost;
+        }
+        this.totalCost = total;
+        this.slotsChanged = false;
+        this.configGeneration = HostileConfig.getGeneration();
+        this.registryGeneration = DataModelRegistry.getGeneration();
+    }
+
+    // ==================== Player interaction ====================
+
+    /**
+     * Put a data model into the first free usable slot.
+     *
+     * @return Whether the model was accepted
+     */
+    public boolean insertModel(ItemStack stack) {
+        if (stack == null || !DataModelItem.isAttuned(stack)) {
+            return false;
+        }
+        int slots = Math.min(HostileConfig.simArraySlots, MODEL_SLOTS);
+        for (int i = 0; i < slots; i++) {
+            if (inventory[i] == null) {
+                setInventorySlotContents(i, stack);
+                this.markDirty();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Take back the data model in the highest occupied slot, including slots beyond a lowered
+     * {@link HostileConfig#simArraySlots}. Its running simulation is lost.
+     *
+     * @return The model, or null if the array hosts none
+     */
+    public ItemStack removeLastModel() {
+        for (int i = MODEL_SLOTS - 1; i >= 0; i--) {
+            ItemStack stack = inventory[i];
+            if (stack != null) {
+                setInventorySlotContents(i, null);
+                // Clear the slot's state now rather than on the next refresh, so the status is right straight away
+                this.runtime[i] = 0;
+                this.predictions[i] = 0;
+                this.models[i] = null;
+                this.markDirty();
+                return stack;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove everything held in the overflow buffer, for dropping when the block is broken.
+     */
+    public List<ItemStack> removeBufferedItems() {
+        return this.outputBuffer.removeAll();
+    }
+
+    /**
+     * Merge prediction matrices into the matrix slot.
+     *
+     * @return The number of matrices taken from the stack
+     */
+    public int insertMatrices(ItemStack stack) {
+        if (!HostileItems.isPredictionMatrix(stack)) {
+            return 0;
+        }
+        ItemStack existing = inventory[Constants.SLOT_ARRAY_MATRIX];
+        int limit = Math.min(stack.getMaxStackSize(), getInventoryStackLimit());
+        int amount = Math.min(stack.stackSize, existing == null ? limit : limit - existing.stackSize);
+        if (amount <= 0) {
+            return 0;
+        }
+        if (existing == null) {
+            ItemStack placed = stack.copy();
+            placed.stackSize = amount;
+            inventory[Constants.SLOT_ARRAY_MATRIX] = placed;
+        } else {
+            existing.stackSize += amount;
+        }
+        this.markDirty();
+        return amount;
+    }
+
+    public int getHostedModels() {
+        int count = 0;
+        for (int i = 0; i < MODEL_SLOTS; i++) {
+            if (this.models[i] != null) count++;
+        }
+        return count;
+    }
+
+    public int getRunningModels() {
+        int count = 0;
+        for (int i = 0; i < MODEL_SLOTS; i++) {
+            if (this.runtime[i] > 0) count++;
+        }
+        return count;
+    }
+
+    public long getBufferedCount() {
+        return this.outputBuffer.getTotal();
+    }
+
+    public AutoEjector getAutoEjector() {
+        return this.autoEjector;
+    }
+
+    // ==================== Energy ====================
+
+    public int getEnergyStored() {
+        return this.energyStored;
+    }
+
+    public int getMaxEnergyStored() {
+        return HostileConfig.simArrayPowerCap;
+    }
+
+    @Override
+    public int receiveEnergy(ForgeDirection from, int maxReceive, boolean simulate) {
+        if (from == ForgeDirection.UNKNOWN) {
+            return 0;
+        }
+        int space = getMaxEnergyStored() - this.energyStored;
+        if (space <= 0) {
+            return 0;
+        }
+        int toReceive = Math.min(maxReceive, space);
+        if (!simulate) {
+            this.energyStored += toReceive;
+            this.dirtyFlag.markProgress();
+        }
+        return toReceive;
+    }
+
+    @Override
+    public int getEnergyStored(ForgeDirection from) {
+        return this.energyStored;
+    }
+
+    @Override
+    public int getMaxEnergyStored(ForgeDirection from) {
+        return getMaxEnergyStored();
+    }
+
+    @Override
+    public boolean canConnectEnergy(ForgeDirection from) {
+        return from != ForgeDirection.UNKNOWN;
+    }
+
+    // ==================== IInventory ====================
+
+    @Override
+    public int getSizeInventory() {
+        return Constants.SIM_ARRAY_INVENTORY_SIZE;
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return inventory[slot];
+    }
+
+    @Override
+    public ItemStack decrStackSize(int slot, int amount) {
+        ItemStack stack = inventory[slot];
+        if (stack == null) return null;
+        ItemStack result = stack.splitStack(amount);
+        if (stack.stackSize <= 0) {
+            inventory[slot] = null;
+        }
+        onSlotChanged(slot);
+        // Top the grid back up from the buffer so extractors keep seeing full stacks
+        if (slot >= Constants.SLOT_ARRAY_OUTPUT_START && worldObj != null
+            && !worldObj.isRemote
+            && this.outputBuffer.drainInto(inventory, OUTPUT_SLOTS)) {
+            this.outputIndex.invalidate();
+        }
+        this.dirtyFlag.mark();
+        return result;
+    }
+
+    @Override
+    public ItemStack getStackInSlotOnClosing(int slot) {
+        ItemStack stack = inventory[slot];
+        inventory[slot] = null;
+        onSlotChanged(slot);
+        return stack;
+    }
+
+    @Override
+    public void setInventorySlotContents(int slot, ItemStack stack) {
+        inventory[slot] = stack;
+        if (stack != null && stack.stackSize > getInventoryStackLimit()) {
+            stack.stackSize = getInventoryStackLimit();
+        }
+        onSlotChanged(slot);
+    }
+
+    private void onSlotChanged(int slot) {
+        if (slot < MODEL_SLOTS) {
+            this.slotsChanged = true;
+        } else {
+            this.outputIndex.update(slot);
+        }
+    }
+
+    /**
+     * Stacks may have been changed in place, so re-resolve models and rebuild the output index on next use.
+     */
+    @Override
+    public void markDirty() {
+        this.slotsChanged = true;
+        this.outputIndex.invalidate();
+        super.markDirty();
+    }
+
+    @Override
+    public String getInventoryName() {
+        return "container.hostilenetworks.sim_array";
+    }
+
+    @Override
+    public boolean hasCustomInventoryName() {
+        return false;
+    }
+
+    @Override
+    public int getInventoryStackLimit() {
+        return Constants.DEFAULT_STACK_LIMIT;
+    }
+
+    @Override
+    public boolean isUseableByPlayer(EntityPlayer player) {
+        return worldObj.getTileEntity(xCoord, yCoord, zCoord) == this
+            && player.getDistanceSq(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5) <= 64;
+    }
+
+    @Override
+    public void openInventory() {}
+
+    @Override
+    public void closeInventory() {}
+
+    @Override
+    public boolean isItemValidForSlot(int slot, ItemStack stack) {
+        if (slot < MODEL_SLOTS) {
+            return slot < HostileConfig.simArraySlots && DataModelItem.isAttuned(stack);
+        } else if (slot == Constants.SLOT_ARRAY_MATRIX) {
+            return HostileItems.isPredictionMatrix(stack);
+        }
+        return false;
+    }
+
+    // ==================== ISidedInventory ====================
+
+    @Override
+    public int[] getAccessibleSlotsFromSide(int side) {
+        return ACCESSIBLE_SLOTS;
+    }
+
+    @Override
+    public boolean canInsertItem(int slot, ItemStack stack, int side) {
+        if (slot < MODEL_SLOTS) {
+            // One model per slot
+            return inventory[slot] == null && isItemValidForSlot(slot, stack);
+        }
+        return isItemValidForSlot(slot, stack);
+    }
+
+    @Override
+    public boolean canExtractItem(int slot, ItemStack stack, int side) {
+        return slot >= Constants.SLOT_ARRAY_OUTPUT_START;
+    }
+
+    // ==================== NBT ====================
+
+    @Override
+    public void readFromNBT(NBTTagCompound tag) {
+        super.readFromNBT(tag);
+
+        TileEntityUtils.readInventoryFromNBT(inventory, tag);
+
+        this.energyStored = tag.getInteger("energy");
+        readSlotArray(tag.getIntArray("runtime"), this.runtime);
+        readSlotArray(tag.getIntArray("predictions"), this.predictions);
+        this.autoEjector.readFromNBT(tag);
+        this.outputBuffer.readFromNBT(tag, "outputBuffer");
+
+        // Keep the loaded runtimes: instances are built for the loaded stacks without resetting them
+        for (int i = 0; i < MODEL_SLOTS; i++) {
+            this.models[i] = inventory[i] != null && DataModelItem.isAttuned(inventory[i])
+                ? new DataModelInstance(inventory[i], i)
+                : null;
+        }
+        this.slotsChanged = true;
+        this.outputIndex.invalidate();
+    }
+
+    private static void readSlotArray(int[] saved, int[] target) {
+        Arrays.fill(target, 0);
+        System.arraycopy(saved, 0, target, 0, Math.min(saved.length, target.length));
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound tag) {
+        super.writeToNBT(tag);
+
+        TileEntityUtils.writeInventoryToNBT(inventory, tag);
+
+        tag.setInteger("energy", this.energyStored);
+        tag.setIntArray("runtime", this.runtime.clone());
+        tag.setIntArray("predictions", this.predictions.clone());
+        this.autoEjector.writeToNBT(tag);
+        this.outputBuffer.writeToNBT(tag, "outputBuffer");
+    }
+}
@@ -1,5 +1,6 @@
 package dev.shadowsoffire.hostilenetworks.tile;
 
+import java.util.List;
 import java.util.Random;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -14,11 +15,11 @@ import cofh.api.energy.IEnergyReceiver;
 import dev.shadowsoffire.hostilenetworks.HostileConfig;
 import dev.shadowsoffire.hostilenetworks.data.DataModel;
 import dev.shadowsoffire.hostilenetworks.data.DataModelInstance;
-import dev.shadowsoffire.hostilenetworks.data.ModelTier;
 import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
 import dev.shadowsoffire.hostilenetworks.item.HostileItems;
 import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
 import dev.shadowsoffire.hostilenetworks.util.Constants;
+import dev.shadowsoffire.hostilenetworks.util.HostileMetrics;
 
 /**
  * TileEntity for the Simulation Chamber machine.
@@ -32,10 +33,31 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
     // Inventory - use constants for slot indices
     private final ItemStack[] inventory = new ItemStack[Constants.SIM_CHAMBER_INVENTORY_SIZE];
 
+    // Slots exposed to automation; shared, must not be modified by callers
+    private static final int[] ACCESSIBLE_SLOTS = { Constants.SLOT_MODEL, Constants.SLOT_MATRIX,
+        Constants.SLOT_OUTPUT_BASE, Constants.SLOT_OUTPUT_PREDICTION };
+    private static final int[] OUTPUT_SLOTS = { Constants.SLOT_OUTPUT_BASE, Constants.SLOT_OUTPUT_PREDICTION };
+    private static final int[] BASE_OUTPUT_SLOT = { Constants.SLOT_OUTPUT_BASE };
+    private static final int[] PREDICTION_OUTPUT_SLOT = { Constants.SLOT_OUTPUT_PREDICTION };
+
+    // Overflow storage behind the output slots
+    private final OutputBuffer baseBuffer = new OutputBuffer();
+    private final OutputBuffer predictionBuffer = new OutputBuffer();
+
+    // Pushes outputs into adjacent inventories on configured sides
+    private final AutoEjector autoEjector = new AutoEjector(this, inventory, OUTPUT_SLOTS);
+    // Pending markDirty, flushed once at the end of the tick
+    private final DirtyFlag dirtyFlag = new DirtyFlag();
+    private final PowerBusLink powerBus = new PowerBusLink(this);
+    // Start phase that keeps neighbouring chambers from finishing on the same tick
+    private final CycleStagger stagger = new CycleStagger(this, 1);
+
     // State
     private int runtime = 0;
     private int predictionSuccess = 0;
     private FailureState failState = FailureState.NONE;
+    // Server-side fail state history, created on the first tick
+    private StallTracker stallTracker;
     private DataModelInstance currentModel = DataModelInstance.EMPTY;
 
     // Redstone control
@@ -43,6 +65,13 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
 
     // Energy stored - implements CoFH IEnergyReceiver for RF power input
     private int energyStored = 0;
+    // Energy committed to the running simulation when simReserveEnergy is on, and the per-tick cost locked in
+    // at start. energyStored only holds free energy; both count towards the capacity.
+    private int reservedEnergy = 0;
+    private int reservedCost = 0;
+
+    // Ticks skipped by the TickGovernor and not yet made up; not saved
+    private int tickDebt;
 
     public SimChamberTileEntity() {
         super();
@@ -54,18 +83,83 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
             return;
         }
 
+        long now = worldObj.getTotalWorldTime();
+        if (!TickGovernor.isTurn(this, now)) {
+            this.tickDebt = TickGovernor.defer(this.tickDebt);
+            return;
+        }
+
+        long profileStart = MachineProfiler.begin();
+        try {
+            // Redstone cannot change while this tile ticks, so read it once for every simulation tick
+            runTicks(now, worldObj.isBlockIndirectlyGettingPowered(xCoord, yCoord, zCoord));
+            if (this.autoEjector.tick()) {
+                this.dirtyFlag.mark();
+            }
+            if (this.dirtyFlag.flush()) {
+                this.markDirty();
+            }
+        } finally {
+            MachineProfiler.end(this, profileStart);
+        }
+        HostileMetrics.recordFailureStateTick(this.failState);
+
+        if (this.stallTracker == null) {
+            this.stallTracker = new StallTracker();
+            StallTracker.track(this);
+        }
+        this.stallTracker.record(this.failState, now);
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        StallTracker.untrack(this);
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        StallTracker.untrack(this);
+    }
+
+    /**
+     * Refill the outputs from the buffers and run the simulation ticks the {@link TickGovernor} allows this turn.
+     * Reads nothing from the world, so it can be driven without one.
+     *
+     * @param now     The world time
+     * @param powered Whether the chamber receives a redstone signal
+     */
+    void runTicks(long now, boolean powered) {
+        if (!this.baseBuffer.isEmpty() || !this.predictionBuffer.isEmpty()) {
+            drainBuffers();
+        }
+        int ticks = TickGovernor.getTicksToRun(this.tickDebt);
+        int ran = 0;
+        while (ran < ticks && tickSimulation(now, powered)) {
+            ran++;
+        }
+        this.tickDebt = TickGovernor.settle(this.tickDebt, ticks, ran);
+    }
+
+    /**
+     * Run one server tick of the simulation.
+     *
+     * @return Whether the simulation started or progressed
+     */
+    private boolean tickSimulation(long now, boolean powered) {
         ItemStack modelStack = inventory[Constants.SLOT_MODEL];
 
         if (modelStack == null) {
             this.failState = FailureState.MODEL;
-            this.runtime = 0;
-            return;
+            this.cancelSimulation();
+            return false;
         }
 
         if (!DataModelItem.isAttuned(modelStack)) {
             this.failState = FailureState.MODEL;
-            this.runtime = 0;
-            return;
+            this.cancelSimulation();
+            return false;
         }
 
         // Use ItemStack-based constructor to get proper reference
@@ -79,77 +173,68 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
             if (!this.currentModel.getTier()
                 .canSim()) {
                 this.failState = FailureState.FAULTY;
-                this.runtime = 0;
-                return;
+                this.cancelSimulation();
+                return false;
             }
 
+            this.drawFromPowerBus(model);
+
             if (this.runtime == 0) {
-                if (this.canStartSimulation(model)) {
+                if (this.canStartSimulation(model, powered)) {
+                    if (!this.stagger.mayStart(0, now)) {
+                        return false; // Waiting for this chamber's start phase
+                    }
+                    this.stagger.onStarted(0);
                     this.runtime = Constants.SIMULATION_TICKS;
-                    float accuracy = this.currentModel.getAccuracy();
-                    this.predictionSuccess = (int) accuracy
-                        + (RANDOM.nextFloat() <= this.currentModel.getAccuracy() % 1 ? 1 : 0);
+                    this.reserveEnergy(model);
+                    this.predictionSuccess = SimulationRules.rollPredictions(this.currentModel, RANDOM);
                     if (inventory[Constants.SLOT_MATRIX] != null) {
                         inventory[Constants.SLOT_MATRIX].stackSize--;
                         if (inventory[Constants.SLOT_MATRIX].stackSize <= 0) {
                             inventory[Constants.SLOT_MATRIX] = null;
                         }
+                        this.dirtyFlag.mark();
                     }
+                    return true;
                 }
-            } else if (this.hasPowerFor(model)) {
-                if (this.redstoneState.matches(worldObj.isBlockIndirectlyGettingPowered(xCoord, yCoord, zCoord))) {
+                this.stagger.reset(0);
+            } else if (this.hasPowerForTick(model)) {
+                if (this.redstoneState.matches(powered)) {
                     this.failState = FailureState.NONE;
                     this.runtime--;
-                    this.markDirty(); // Sync runtime to client
+                    this.dirtyFlag.markProgress(); // Runtime reaches the client through the container
                     if (this.runtime == 0) {
-                        // Complete simulation
-                        ItemStack baseOut = inventory[Constants.SLOT_OUTPUT_BASE];
-                        ItemStack predOut = inventory[Constants.SLOT_OUTPUT_PREDICTION];
+                        this.releaseReservation();
 
+                        // Complete simulation, overflowing into the internal buffers
                         ItemStack baseDrop = model.getBaseDrop();
                         if (baseDrop != null && baseDrop.getItem() != null) {
-                            if (baseOut == null) {
-                                inventory[Constants.SLOT_OUTPUT_BASE] = baseDrop.copy();
-                                inventory[Constants.SLOT_OUTPUT_BASE].stackSize = 1;
-                            } else if (baseOut.isItemEqual(baseDrop) && baseOut.stackSize < baseOut.getMaxStackSize()) {
-                                baseOut.stackSize++;
-                            }
+                            outputOrBuffer(Constants.SLOT_OUTPUT_BASE, this.baseBuffer, baseDrop, 1);
                         }
 
-                        if (this.predictionSuccess > 0 && HostileItems.mob_prediction != null) {
-                            ItemStack predictionDrop = model.createPredictionItem();
-                            if (predOut == null) {
-                                inventory[Constants.SLOT_OUTPUT_PREDICTION] = predictionDrop;
-                                inventory[Constants.SLOT_OUTPUT_PREDICTION].stackSize = this.predictionSuccess;
-                            } else if (predOut.isItemEqual(predictionDrop)
-                                && predOut.stackSize < predOut.getMaxStackSize()) {
-                                    predOut.stackSize += this.predictionSuccess;
-                                }
+                        // outputOrBuffer copies what it places, so the shared template can be passed straight in
+                        ItemStack prediction = HostileItems.mob_prediction != null
+                            ? MobPredictionItem.getTemplate(model.getEntityId())
+                            : null;
+                        if (this.predictionSuccess > 0 && prediction != null) {
+                            outputOrBuffer(
+                                Constants.SLOT_OUTPUT_PREDICTION,
+                                this.predictionBuffer,
+                                prediction,
+                                this.predictionSuccess);
                         }
 
-                        // Update iterations
-                        int newIters = this.currentModel.getIterations() + 1;
-                        this.currentModel.setIterations(newIters);
-
-                        // Model upgrade logic - matches original implementation
-                        if (HostileConfig.simModelUpgrade > 0) {
-                            ModelTier tier = this.currentModel.getTier();
-                            if (!tier.isMax()) {
-                                int newData = this.currentModel.getCurrentData() + 1;
-                                // Config option 2: prevent upgrading past tier
-                                if (!(HostileConfig.simModelUpgrade == 2
-                                    && newData > this.currentModel.getNextTierData())) {
-                                    this.currentModel.setData(newData);
-                                    // Update damage bar after data change
-                                    DataModelItem.updateDamage(inventory[Constants.SLOT_MODEL]);
-                                }
-                            }
-                        }
+                        HostileMetrics.recordSimulation(this.predictionSuccess);
+
+                        // Update iterations and upgrade the model
+                        SimulationRules.completeCycle(this.currentModel, inventory[Constants.SLOT_MODEL]);
+                        this.stagger.onCompleted(0);
 
-                        this.markDirty();
+                        this.dirtyFlag.mark();
                     } else {
-                        this.energyStored -= model.getSimCostWithConfig();
+                        this.consumeTickEnergy(model);
                     }
+                    return true;
                 } else {
                     this.failState = FailureState.REDSTONE;
                 }
@@ -158,22 +243,30 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
             }
         } else {
             this.failState = FailureState.MODEL;
-            this.runtime = 0;
+            this.cancelSimulation();
         }
+        return false;
     }
 
     /**
      * Check if the output slots are clear and there enough power for a sim run.
      */
     public boolean canStartSimulation(DataModel model) {
+        return canStartSimulation(model, worldObj.isBlockIndirectlyGettingPowered(xCoord, yCoord, zCoord));
+    }
+
+    /**
+     * Check if the output slots are clear and there enough power for a sim run, given the redstone signal.
+     */
+    boolean canStartSimulation(DataModel model, boolean powered) {
         // Check redstone state first
-        if (!this.redstoneState.matches(worldObj.isBlockIndirectlyGettingPowered(xCoord, yCoord, zCoord))) {
+        if (!this.redstoneState.matches(powered)) {
             this.failState = FailureState.REDSTONE;
             return false;
         }
 
         ItemStack matrixStack = inventory[Constants.SLOT_MATRIX];
-        if (matrixStack == null || !matrixStack.isItemEqual(HostileItems.getPredictionMatrix())) {
+        if (!HostileItems.isPredictionMatrix(matrixStack)) {
             this.failState = FailureState.INPUT;
             return false;
         }
@@ -188,28 +281,28 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
             return false;
         }
 
-        // Check if prediction item is registered
+        // Check if prediction item is registered; the shared template is only compared against, never stored
         ItemStack pOutExp = null;
         if (HostileItems.mob_prediction != null) {
-            pOutExp = MobPredictionItem.create(model.getEntityId());
+            pOutExp = MobPredictionItem.getTemplate(model.getEntityId());
         }
         if (pOutExp == null || pOutExp.getItem() == null) {
             this.failState = FailureState.OUTPUT;
             return false;
         }
 
-        // Check output slots
-        if (!this.canStack(nOut, nOutExp)) {
+        // Check output slots, falling back to the overflow buffers
+        if (!this.canStack(nOut, nOutExp) && !this.baseBuffer.hasSpace(1)) {
             this.failState = FailureState.OUTPUT;
             return false;
         }
-        if (!this.canStack(pOut, pOutExp)) {
+        if (!this.canStack(pOut, pOutExp) && !this.predictionBuffer.hasSpace(1)) {
             this.failState = FailureState.OUTPUT;
             return false;
         }
 
-        // Check power
-        if (!this.hasPowerFor(model)) {
+        // Check power, including the whole cycle's reservation if enabled
+        if (!this.hasPowerFor(model) || this.energyStored < getCycleReservation(model.getSimCostWithConfig())) {
             this.failState = FailureState.ENERGY;
             return false;
         }
@@ -218,6 +311,37 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
         return true;
     }
 
+    /**
+     * Put {@code amount} items into an output slot, buffering whatever does not fit.
+     */
+    private void outputOrBuffer(int slot, OutputBuffer buffer, ItemStack template, int amount) {
+        ItemStack existing = inventory[slot];
+        int maxStack = Math.min(template.getMaxStackSize(), getInventoryStackLimit());
+        int remaining = amount;
+        if (existing == null) {
+            ItemStack placed = template.copy();
+            placed.stackSize = Math.min(maxStack, remaining);
+            inventory[slot] = placed;
+            remaining -= placed.stackSize;
+        } else if (existing.isItemEqual(template) && ItemStack.areItemStackTagsEqual(existing, template)) {
+            int added = Math.max(0, Math.min(maxStack - existing.stackSize, remaining));
+            existing.stackSize += added;
+            remaining -= added;
+        }
+        buffer.add(template, remaining);
+    }
+
+    /**
+     * Refill the output slots from the overflow buffers.
+     */
+    private void drainBuffers() {
+        boolean moved = this.baseBuffer.drainInto(inventory, BASE_OUTPUT_SLOT);
+        moved |= this.predictionBuffer.drainInto(inventory, PREDICTION_OUTPUT_SLOT);
+        if (moved) {
+            this.dirtyFlag.mark();
+        }
+    }
+
     public boolean canStack(ItemStack a, ItemStack b) {
         return TileEntityUtils.canStack(a, b);
     }
@@ -231,9 +355,109 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
         return this.energyStored >= model.getSimCostWithConfig();
     }
 
+    /**
+     * Top up free energy from a nearby power bus with what this tick needs: a cycle's worth (or one tick's cost)
+     * before starting, one tick's cost while running without a reservation.
+     */
+    private void drawFromPowerBus(DataModel model) {
+        int cost = model.getSimCostWithConfig();
+        int needed;
+        if (this.runtime == 0) {
+            needed = Math.max(cost, getCycleReservation(cost));
+        } else {
+            needed = this.reservedCost > 0 ? 0 : cost;
+        }
+        int amount = Math.min(needed - this.energyStored, HostileConfig.simPowerCap - getEnergyStored());
+        if (amount > 0) {
+            int drawn = this.powerBus.draw(amount);
+            if (drawn > 0) {
+                this.energyStored += drawn;
+                this.dirtyFlag.markProgress();
+            }
+        }
+    }
+
+    /**
+     * Running-tick power check. A reserved cycle already holds its energy.
+     */
+    private boolean hasPowerForTick(DataModel model) {
+        if (this.reservedCost > 0) {
+            return HostileConfig.isModelEnabled(model.getEntityId());
+        }
+        return this.hasPowerFor(model);
+    }
+
+    /**
+     * Get the energy to set aside for a cycle at the given per-tick cost, or 0 if the cycle draws per tick.
+     */
+    private static int getCycleReservation(int cost) {
+        if (!HostileConfig.simReserveEnergy) {
+            return 0;
+        }
+        long total = (long) cost * Constants.SIMULATION_TICKS;
+        return total <= HostileConfig.simPowerCap ? (int) total : 0;
+    }
+
+    /**
+     * Move the whole cycle's energy from free to committed, if reservation applies to this cycle.
+     */
+    private void reserveEnergy(DataModel model) {
+        int cost = model.getSimCostWithConfig();
+        int total = getCycleReservation(cost);
+        if (total > 0) {
+            this.energyStored -= total;
+            this.reservedEnergy = total;
+            this.reservedCost = cost;
+        }
+    }
+
+    /**
+     * Pay for one running tick, from the reservation if there is one.
+     */
+    private void consumeTickEnergy(DataModel model) {
+        int cost;
+        if (this.reservedCost > 0) {
+            cost = Math.min(this.reservedCost, this.reservedEnergy);
+            this.reservedEnergy -= cost;
+        } else {
+            cost = model.getSimCostWithConfig();
+            this.energyStored -= cost;
+        }
+        HostileMetrics.Counter.SIM_ENERGY_CONSUMED.add(cost);
+    }
+
+    /**
+     * Return whatever is left of the reservation to free energy. The completion tick draws nothing, so a finished
+     * cycle costs the same in both accounting modes.
+     */
+    private void releaseReservation() {
+        this.energyStored += this.reservedEnergy;
+        this.reservedEnergy = 0;
+        this.reservedCost = 0;
+    }
+
+    /**
+     * Abort the running simulation, refunding its reservation.
+     */
+    private void cancelSimulation() {
+        this.runtime = 0;
+        this.releaseReservation();
+        this.stagger.reset(0);
+    }
+
     // Energy methods
+    /**
+     * Get the total energy in the chamber, free and reserved.
+     */
     public int getEnergyStored() {
-        return this.energyStored;
+        return this.energyStored + this.reservedEnergy;
+    }
+
+    /**
+     * Get the energy committed to the running simulation.
+     */
+    public int getReservedEnergy() {
+        return this.reservedEnergy;
     }
 
     public int getMaxEnergyStored() {
@@ -241,7 +465,7 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
     }
 
     public void receiveEnergy(int amount) {
-        this.energyStored = Math.min(this.energyStored + amount, HostileConfig.simPowerCap);
+        this.energyStored = Math.min(this.energyStored + amount, HostileConfig.simPowerCap - this.reservedEnergy);
     }
 
     // ==================== IEnergyReceiver ====================
@@ -251,21 +475,21 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
         if (from == ForgeDirection.UNKNOWN) {
             return 0;
         }
-        int space = getMaxEnergyStored() - energyStored;
+        int space = getMaxEnergyStored() - getEnergyStored();
         if (space <= 0) {
             return 0;
         }
         int toReceive = Math.min(maxReceive, space);
         if (!simulate) {
             energyStored += toReceive;
-            this.markDirty();
+            this.dirtyFlag.markProgress();
         }
         return toReceive;
     }
 
     @Override
     public int getEnergyStored(ForgeDirection from) {
-        return this.energyStored;
+        return getEnergyStored();
     }
 
     @Override
@@ -298,17 +522,30 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
         }
         if (stack.stackSize <= amount) {
             inventory[slot] = null;
-            // Mark dirty to sync the empty slot to client
-            this.markDirty();
+            refillOutput(slot);
+            // Extractors may pull several times per tick, so flush with the next machine tick
+            this.dirtyFlag.mark();
             return stack;
         }
         // Create a new ItemStack for the result (matches vanilla behavior)
         ItemStack result = stack.splitStack(amount);
-        // Mark dirty to sync the reduced stack to client
-        this.markDirty();
+        refillOutput(slot);
+        this.dirtyFlag.mark();
         return result;
     }
 
+    /**
+     * Top an output slot back up from its buffer so extractors keep seeing a full stack.
+     */
+    private void refillOutput(int slot) {
+        if (worldObj == null || worldObj.isRemote) return;
+        if (slot == Constants.SLOT_OUTPUT_BASE) {
+            this.baseBuffer.drainInto(inventory, BASE_OUTPUT_SLOT);
+        } else if (slot == Constants.SLOT_OUTPUT_PREDICTION) {
+            this.predictionBuffer.drainInto(inventory, PREDICTION_OUTPUT_SLOT);
+        }
+    }
+
     @Override
     public ItemStack getStackInSlotOnClosing(int slot) {
         if (inventory[slot] == null) return null;
@@ -358,7 +595,7 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
             // Accept any DataModelItem (including blank models with damage=0)
             return stack.getItem() instanceof dev.shadowsoffire.hostilenetworks.item.DataModelItem;
         } else if (slot == Constants.SLOT_MATRIX) {
-            return stack.isItemEqual(HostileItems.getPredictionMatrix());
+            return HostileItems.isPredictionMatrix(stack);
         }
         return true;
     }
@@ -368,8 +605,7 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
     @Override
     public int[] getAccessibleSlotsFromSide(int side) {
         // All slots can be accessed from any side
-        return new int[] { Constants.SLOT_MODEL, Constants.SLOT_MATRIX, Constants.SLOT_OUTPUT_BASE,
-            Constants.SLOT_OUTPUT_PREDICTION };
+        return ACCESSIBLE_SLOTS;
     }
 
     @Override
@@ -401,9 +637,14 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
 
         this.energyStored = tag.getInteger("energy");
         this.runtime = tag.getInteger("runtime");
+        this.reservedEnergy = tag.getInteger("reservedEnergy");
+        this.reservedCost = tag.getInteger("reservedCost");
         this.predictionSuccess = tag.getInteger("predSuccess");
         this.failState = FailureState.values()[tag.getInteger("failState")];
         this.redstoneState = RedstoneState.values()[tag.getInteger("redstoneState")];
+        this.autoEjector.readFromNBT(tag);
+        this.baseBuffer.readFromNBT(tag, "baseBuffer");
+        this.predictionBuffer.readFromNBT(tag, "predictionBuffer");
     }
 
     @Override
@@ -414,9 +655,14 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
 
         tag.setInteger("energy", this.energyStored);
         tag.setInteger("runtime", this.runtime);
+        tag.setInteger("reservedEnergy", this.reservedEnergy);
+        tag.setInteger("reservedCost", this.reservedCost);
         tag.setInteger("predSuccess", this.predictionSuccess);
         tag.setInteger("failState", this.failState.ordinal());
         tag.setInteger("redstoneState", this.redstoneState.ordinal());
+        this.autoEjector.writeToNBT(tag);
+        this.baseBuffer.writeToNBT(tag, "baseBuffer");
+        this.predictionBuffer.writeToNBT(tag, "predictionBuffer");
     }
 
     // ==================== Getters ====================
@@ -437,6 +683,33 @@ public class SimChamberTileEntity extends TileEntity implements IInventory, ISid
         return this.failState;
     }
 
+    /**
+     * Get the fail state history of this chamber, or null if it has not ticked on the server yet.
+     */
+    public StallTracker getStallTracker() {
+        return this.stallTracker;
+    }
+
+    public AutoEjector getAutoEjector() {
+        return this.autoEjector;
+    }
+
+    /**
+     * Get the number of items held in the overflow buffers behind the output slots.
+     */
+    public long getBufferedCount() {
+        return this.baseBuffer.getTotal() + this.predictionBuffer.getTotal();
+    }
+
+    /**
+     * Remove everything held in both overflow buffers, for dropping when the block is broken.
+     */
+    public List<ItemStack> removeBufferedItems() {
+        List<ItemStack> stacks = this.baseBuffer.removeAll();
+        stacks.addAll(this.predictionBuffer.removeAll());
+        return stacks;
+    }
+
     public void cycleRedstoneState() {
         this.redstoneState = this.redstoneState.next();
     }
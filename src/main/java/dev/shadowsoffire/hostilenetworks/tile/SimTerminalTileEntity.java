@@ -0,0 +1,246 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import cofh.api.energy.IEnergyReceiver;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.datacenter.DatacenterNetwork;
+import dev.shadowsoffire.hostilenetworks.datacenter.SimDatacenter;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+
+/**
+ * TileEntity for the Simulation Terminal.
+ * <p>
+ * A window into its owner's {@link DatacenterNetwork}: energy received is stored in the network, matrices put in the
+ * input slot are moved into it, and finished outputs are drained into the terminal's output slots for extraction.
+ * The simulations themselves run in the datacenter whether or not any terminal is loaded.
+ */
+public class SimTerminalTileEntity extends TileEntity implements ISidedInventory, IEnergyReceiver {
+
+    // Slots exposed to automation; shared, must not be modified by callers
+    private static final int[] ACCESSIBLE_SLOTS = new int[Constants.SIM_TERMINAL_INVENTORY_SIZE];
+    private static final int[] OUTPUT_SLOTS = new int[Constants.SIM_TERMINAL_INVENTORY_SIZE
+        - Constants.SLOT_TERMINAL_OUTPUT_START];
+
+    static {
+        for (int i = 0; i < ACCESSIBLE_SLOTS.length; i++) {
+            ACCESSIBLE_SLOTS[i] = i;
+        }
+        for (int i = 0; i < OUTPUT_SLOTS.length; i++) {
+            OUTPUT_SLOTS[i] = Constants.SLOT_TERMINAL_OUTPUT_START + i;
+        }
+    }
+
+    private final ItemStack[] inventory = new ItemStack[Constants.SIM_TERMINAL_INVENTORY_SIZE];
+
+    // UUID of the player who placed the terminal, empty for the shared network
+    private String owner = "";
+
+    @Override
+    public void updateEntity() {
+        if (worldObj == null || worldObj.isRemote) {
+            return;
+        }
+        DatacenterNetwork network = getNetwork();
+        if (network == null) {
+            return;
+        }
+
+        boolean changed = false;
+        ItemStack matrices = inventory[Constants.SLOT_TERMINAL_MATRIX];
+        if (matrices != null && HostileItems.isPredictionMatrix(matrices)) {
+            network.addMatrices(matrices.stackSize);
+            inventory[Constants.SLOT_TERMINAL_MATRIX] = null;
+            changed = true;
+        }
+        if (!network.getOutputs()
+            .isEmpty()
+            && network.getOutputs()
+                .drainInto(inventory, OUTPUT_SLOTS)) {
+            changed = true;
+        }
+        if (changed) {
+            SimDatacenter.get()
+                .markDirty();
+            this.markDirty();
+        }
+    }
+
+    /**
+     * Get the owner's network, or null if the datacenter is unavailable.
+     */
+    public DatacenterNetwork getNetwork() {
+        SimDatacenter datacenter = SimDatacenter.get();
+        return datacenter != null ? datacenter.getNetwork(this.owner) : null;
+    }
+
+    /**
+     * Whether the player may add or remove data models. Only the owner and operators can; anyone can use a terminal
+     * of the shared network.
+     */
+    public boolean canManage(EntityPlayer player) {
+        String id = player.getUniqueID()
+            .toString();
+        if (this.owner.isEmpty() || this.owner.equals(id)) {
+            return true;
+        }
+        MinecraftServer server = MinecraftServer.getServer();
+        return server != null && server.getConfigurationManager()
+            .func_152596_g(player.getGameProfile());
+    }
+
+    public String getOwner() {
+        return this.owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner != null ? owner : "";
+        this.markDirty();
+    }
+
+    // ==================== IEnergyReceiver ====================
+
+    @Override
+    public int receiveEnergy(ForgeDirection from, int maxReceive, boolean simulate) {
+        if (from == ForgeDirection.UNKNOWN || worldObj == null || worldObj.isRemote) {
+            return 0;
+        }
+        DatacenterNetwork network = getNetwork();
+        if (network == null) {
+            return 0;
+        }
+        int received = network.receiveEnergy(maxReceive, simulate);
+        if (received > 0 && !simulate) {
+            // Only sets the save flag, cheap enough for every conduit push
+            SimDatacenter.get()
+                .markDirty();
+        }
+        return received;
+    }
+
+    @Override
+    public int getEnergyStored(ForgeDirection from) {
+        DatacenterNetwork network = worldObj != null && !worldObj.isRemote ? getNetwork() : null;
+        return network != null ? (int) Math.min(Integer.MAX_VALUE, network.getEnergy()) : 0;
+    }
+
+    @Override
+    public int getMaxEnergyStored(ForgeDirection from) {
+        return HostileConfig.datacenterPowerCap;
+    }
+
+    @Override
+    public boolean canConnectEnergy(ForgeDirection from) {
+        return from != ForgeDirection.UNKNOWN;
+    }
+
+    // ==================== IInventory ====================
+
+    @Override
+    public int getSizeInventory() {
+        return Constants.SIM_TERMINAL_INVENTORY_SIZE;
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return inventory[slot];
+    }
+
+    @Override
+    public ItemStack decrStackSize(int slot, int amount) {
+        ItemStack stack = inventory[slot];
+        if (stack == null) return null;
+        ItemStack result = stack.splitStack(amount);
+        if (stack.stackSize <= 0) {
+            inventory[slot] = null;
+        }
+        return result;
+    }
+
+    @Override
+    public ItemStack getStackInSlotOnClosing(int slot) {
+        ItemStack stack = inventory[slot];
+        inventory[slot] = null;
+        return stack;
+    }
+
+    @Override
+    public void setInventorySlotContents(int slot, ItemStack stack) {
+        inventory[slot] = stack;
+        if (stack != null && stack.stackSize > getInventoryStackLimit()) {
+            stack.stackSize = getInventoryStackLimit();
+        }
+    }
+
+    @Override
+    public String getInventoryName() {
+        return "container.hostilenetworks.sim_terminal";
+    }
+
+    @Override
+    public boolean hasCustomInventoryName() {
+        return false;
+    }
+
+    @Override
+    public int getInventoryStackLimit() {
+        return Constants.DEFAULT_STACK_LIMIT;
+    }
+
+    @Override
+    public boolean isUseableByPlayer(EntityPlayer player) {
+        return worldObj.getTileEntity(xCoord, yCoord, zCoord) == this
+            && player.getDistanceSq(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5) <= 64;
+    }
+
+    @Override
+    public void openInventory() {}
+
+    @Override
+    public void closeInventory() {}
+
+    @Override
+    public boolean isItemValidForSlot(int slot, ItemStack stack) {
+        return slot == Constants.SLOT_TERMINAL_MATRIX && HostileItems.isPredictionMatrix(stack);
+    }
+
+    // ==================== ISidedInventory ====================
+
+    @Override
+    public int[] getAccessibleSlotsFromSide(int side) {
+        return ACCESSIBLE_SLOTS;
+    }
+
+    @Override
+    public boolean canInsertItem(int slot, ItemStack stack, int side) {
+        return isItemValidForSlot(slot, stack);
+    }
+
+    @Override
+    public boolean canExtractItem(int slot, ItemStack stack, int side) {
+        return slot >= Constants.SLOT_TERMINAL_OUTPUT_START;
+    }
+
+    // ==================== NBT ====================
+
+    @Override
+    public void readFromNBT(NBTTagCompound tag) {
+        super.readFromNBT(tag);
+        TileEntityUtils.readInventoryFromNBT(inventory, tag);
+        this.owner = tag.getString("owner");
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound tag) {
+        super.writeToNBT(tag);
+        TileEntityUtils.writeInventoryToNBT(inventory, tag);
+        tag.setString("owner", this.owner);
+    }
+}
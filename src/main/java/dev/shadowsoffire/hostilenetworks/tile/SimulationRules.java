@@ -0,0 +1,54 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.Random;
+
+import net.minecraft.item.ItemStack;
+
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.data.DataModelInstance;
+import dev.shadowsoffire.hostilenetworks.data.ModelTier;
+import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
+
+/**
+ * Simulation rules shared by every machine that runs data models, so they all roll predictions and upgrade models
+ * the same way as the Simulation Chamber.
+ */
+public final class SimulationRules {
+
+    private SimulationRules() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Roll the number of predictions a cycle produces: the whole part of the accuracy, plus one more with the
+     * fractional part as probability.
+     */
+    public static int rollPredictions(DataModelInstance model, Random random) {
+        float accuracy = model.getAccuracy();
+        return (int) accuracy + (random.nextFloat() <= accuracy % 1 ? 1 : 0);
+    }
+
+    /**
+     * Apply the end of a cycle to a model: count the iteration and, depending on {@link HostileConfig#simModelUpgrade},
+     * add one data point.
+     *
+     * @param modelStack The model's item stack, whose damage bar is refreshed after an upgrade
+     */
+    public static void completeCycle(DataModelInstance model, ItemStack modelStack) {
+        model.setIterations(model.getIterations() + 1);
+
+        // Model upgrade logic - matches original implementation
+        if (HostileConfig.simModelUpgrade > 0) {
+            ModelTier tier = model.getTier();
+            if (!tier.isMax()) {
+                int newData = model.getCurrentData() + 1;
+                // Config option 2: prevent upgrading past tier
+                if (!(HostileConfig.simModelUpgrade == 2 && newData > model.getNextTierData())) {
+                    model.setData(newData);
+                    // Update damage bar after data change
+                    DataModelItem.updateDamage(modelStack);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import dev.shadowsoffire.hostilenetworks.tile.SimChamberTileEntity.FailureState;
+
+/**
+ * Per-machine histogram of Simulation Chamber fail states over a rolling window.
+ * <p>
+ * Ticks are counted into one-minute buckets keyed by world time, so the last {@link #MAX_WINDOW_MINUTES}
+ * minutes can be queried at any resolution without keeping per-tick history.
+ * Recording is a couple of array writes and never allocates. All methods must be called from the server thread.
+ */
+public final class StallTracker {
+
+    /** Length of one histogram bucket in ticks */
+    public static final int BUCKET_TICKS = 1200;
+
+    /** Number of buckets kept per machine, which is also the longest queryable window in minutes */
+    public static final int MAX_WINDOW_MINUTES = 60;
+
+    private static final FailureState[] STATES = FailureState.values();
+
+    /** Every chamber that has recorded at least one tick; chunk unloads and GC remove entries */
+    private static final Set<SimChamberTileEntity> TRACKED = Collections
+        .newSetFromMap(new WeakHashMap<SimChamberTileEntity, Boolean>());
+
+    /** Tick counts, {@code STATES.length} entries per bucket */
+    private final int[] counts = new int[MAX_WINDOW_MINUTES * STATES.length];
+    /** Absolute bucket number (world time / {@link #BUCKET_TICKS}) each slot currently holds, or -1 */
+    private final long[] bucketIds = new long[MAX_WINDOW_MINUTES];
+
+    StallTracker() {
+        Arrays.fill(bucketIds, -1L);
+    }
+
+    /**
+     * Count one tick in the given state.
+     */
+    void record(FailureState state, long worldTime) {
+        long bucketId = worldTime / BUCKET_TICKS;
+        int slot = (int) (bucketId % MAX_WINDOW_MINUTES);
+        int base = slot * STATES.length;
+        if (bucketIds[slot] != bucketId) {
+            for (int i = 0; i < STATES.length; i++) {
+                counts[base + i] = 0;
+            }
+            bucketIds[slot] = bucketId;
+        }
+        counts[base + state.ordinal()]++;
+    }
+
+    /**
+     * Sum the ticks spent in each state over the last {@code minutes} minutes.
+     *
+     * @param out Array of at least {@code FailureState.values().length} entries, overwritten with the totals
+     */
+    public void getTicks(long worldTime, int minutes, int[] out) {
+        for (int i = 0; i < STATES.length; i++) {
+            out[i] = 0;
+        }
+        long current = worldTime / BUCKET_TICKS;
+        long oldest = current - Math.min(minutes, MAX_WINDOW_MINUTES) + 1;
+        for (int slot = 0; slot < MAX_WINDOW_MINUTES; slot++) {
+            long bucketId = bucketIds[slot];
+            if (bucketId < oldest || bucketId > current) continue;
+            int base = slot * STATES.length;
+            for (int i = 0; i < STATES.length; i++) {
+                out[i] += counts[base + i];
+            }
+        }
+    }
+
+    /**
+     * Whether a state counts as a stall. {@link FailureState#NONE} is a running machine and
+     * {@link FailureState#MODEL} is an empty or unused chamber, neither of which logistics can fix.
+     */
+    public static boolean isStall(FailureState state) {
+        return state != FailureState.NONE && state != FailureState.MODEL;
+    }
+
+    // ==================== Registry ====================
+
+    static void track(SimChamberTileEntity tile) {
+        TRACKED.add(tile);
+    }
+
+    static void untrack(SimChamberTileEntity tile) {
+        TRACKED.remove(tile);
+    }
+
+    /**
+     * Get every loaded, valid chamber that is being tracked.
+     */
+    public static List<SimChamberTileEntity> getTrackedChambers() {
+        List<SimChamberTileEntity> result = new ArrayList<>(TRACKED.size());
+        for (SimChamberTileEntity tile : TRACKED) {
+            if (tile != null && !tile.isInvalid() && tile.getWorldObj() != null) {
+                result.add(tile);
+            }
+        }
+        return result;
+    }
+}
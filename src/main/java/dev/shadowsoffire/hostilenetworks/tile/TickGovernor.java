@@ -0,0 +1,164 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+
+/**
+ * Throttles HNN machine work while the server is overloaded.
+ * <p>
+ * The mean of the server's last 100 tick times is checked once a second. Above
+ * {@link HostileConfig#governorSoftLimitMs} machines only work one tick in every {@code stride}, rising linearly to
+ * {@link HostileConfig#governorMaxStride} at {@link HostileConfig#governorHardLimitMs}. Each machine works on its
+ * {@link CycleStagger} phase of the stride so the load is spread evenly. Skipped ticks are kept as per-machine debt and
+ * repaid once the server has headroom again, so output over wall-clock time is preserved. Repayment only starts
+ * {@link HostileConfig#governorCatchUpMarginMs} below the soft limit and ramps up by one extra tick per update to
+ * {@link HostileConfig#governorCatchUpTicks}, so catching up cannot push the server straight back over the limit.
+ * All methods must be called from the server thread.
+ */
+public final class TickGovernor {
+
+    // Ticks between recomputing the stride
+    private static final int UPDATE_INTERVAL = 20;
+
+    private static int stride = 1;
+    // Extra debt ticks each machine may repay per update, ramped up while there is headroom
+    private static int catchUp;
+    private static double meanTickMillis;
+    private static int ticksUntilUpdate;
+
+    // Totals since server start, for the status readout
+    private static long deferredTicks;
+    private static long repaidTicks;
+    private static long forgivenTicks;
+
+    private TickGovernor() {}
+
+    /**
+     * Get how many ticks apart each machine currently works; 1 when not throttling.
+     */
+    public static int getStride() {
+        return stride;
+    }
+
+    /**
+     * Get the mean server tick time in milliseconds, as of the last update.
+     */
+    public static double getMeanTickMillis() {
+        return meanTickMillis;
+    }
+
+    /**
+     * Get how many skipped ticks each machine currently makes up per update; 0 when not catching up.
+     */
+    public static int getCatchUpTicks() {
+        return catchUp;
+    }
+
+    public static long getDeferredTicks() {
+        return deferredTicks;
+    }
+
+    public static long getRepaidTicks() {
+        return repaidTicks;
+    }
+
+    public static long getForgivenTicks() {
+        return forgivenTicks;
+    }
+
+    /**
+     * Whether the machine works on this tick.
+     */
+    static boolean isTurn(TileEntity tile, long worldTime) {
+        return stride <= 1 || Math.floorMod(worldTime + CycleStagger.phaseOf(tile), (long) stride) == 0;
+    }
+
+    /**
+     * Record a skipped tick.
+     *
+     * @return The machine's new debt
+     */
+    static int defer(int debt) {
+        deferredTicks++;
+        return Math.min(debt + 1, HostileConfig.governorMaxDebt);
+    }
+
+    /**
+     * Get how many ticks of work a machine should run on its turn: one, plus part of its debt while catching up.
+     */
+    static int getTicksToRun(int debt) {
+        if (stride > 1) {
+            return 1;
+        }
+        return 1 + Math.min(debt, catchUp);
+    }
+
+    /**
+     * Settle a machine's debt after its turn. A machine that stopped early could not have used the skipped ticks
+     * either, so its debt is dropped rather than carried.
+     *
+     * @param ticks The ticks the machine was given by {@link #getTicksToRun(int)}
+     * @param ran   The ticks in which it made progress
+     * @return The machine's new debt
+     */
+    static int settle(int debt, int ticks, int ran) {
+        if (ran < ticks) {
+            int repaid = Math.max(0, ran - 1);
+            repaidTicks += repaid;
+            forgivenTicks += debt - repaid;
+            return 0;
+        }
+        repaidTicks += ticks - 1;
+        return debt - (ticks - 1);
+    }
+
+    /**
+     * Recompute the stride from the server's recent tick times.
+     */
+    static void update(MinecraftServer server) {
+        long[] times = server.tickTimeArray;
+        long total = 0;
+        for (long time : times) {
+            total += time;
+        }
+        meanTickMillis = times.length > 0 ? total / (double) times.length / 1.0E6D : 0;
+
+        if (!HostileConfig.governorEnabled || meanTickMillis <= HostileConfig.governorSoftLimitMs) {
+            stride = 1;
+        } else {
+            int range = Math.max(1, HostileConfig.governorHardLimitMs - HostileConfig.governorSoftLimitMs);
+            double load = Math.min(1.0D, (meanTickMillis - HostileConfig.governorSoftLimitMs) / range);
+            stride = 2 + (int) (load * (HostileConfig.governorMaxStride - 2));
+        }
+
+        // Between the resume threshold and the soft limit, hold the current repayment rate
+        double resumeMillis = HostileConfig.governorSoftLimitMs - HostileConfig.governorCatchUpMarginMs;
+        if (stride > 1) {
+            catchUp = 0;
+        } else if (meanTickMillis <= resumeMillis) {
+            catchUp = Math.min(catchUp + 1, HostileConfig.governorCatchUpTicks);
+        }
+    }
+
+    /**
+     * Updates the governor at the start of every server tick, before any machine ticks.
+     */
+    public static class Ticker {
+
+        @SubscribeEvent
+        public void onServerTick(TickEvent.ServerTickEvent event) {
+            if (event.phase != TickEvent.Phase.START || --ticksUntilUpdate > 0) {
+                return;
+            }
+            ticksUntilUpdate = UPDATE_INTERVAL;
+            MinecraftServer server = MinecraftServer.getServer();
+            if (server != null) {
+                update(server);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
 import dev.shadowsoffire.hostilenetworks.util.Constants;
 
 /**
@@ -17,7 +18,7 @@ public final class TileEntityUtils {
     }
 
     /**
-     * Read inventory from NBT tag.
+     * Read inventory from NBT tag. Data models and predictions get their damage re-derived from their entity IDs.
      *
      * @param inventory The inventory array to populate
      * @param tag       The NBT tag to read from
@@ -29,6 +30,7 @@ public final class TileEntityUtils {
             int slot = itemTag.getByte("slot");
             if (slot >= 0 && slot < inventory.length) {
                 inventory[slot] = ItemStack.loadItemStackFromNBT(itemTag);
+                HostileItems.normalizeModelDamage(inventory[slot]);
             }
         }
     }
@@ -23,6 +23,18 @@ public final class Constants {
     /** Number of slots in Loot Fabricator inventory (1 prediction + 16 output) */
     public static final int LOOT_FAB_INVENTORY_SIZE = 17;
 
+    /** Number of data model slots in a Simulation Array (the usable count is capped by config) */
+    public static final int SIM_ARRAY_MODEL_SLOTS = 64;
+
+    /** Number of output slots in a Simulation Array */
+    public static final int SIM_ARRAY_OUTPUT_SLOTS = 9;
+
+    /** Number of slots in Simulation Array inventory (64 models + 1 matrix + 9 output) */
+    public static final int SIM_ARRAY_INVENTORY_SIZE = SIM_ARRAY_MODEL_SLOTS + 1 + SIM_ARRAY_OUTPUT_SLOTS;
+
+    /** Number of slots in Simulation Terminal inventory (1 matrix + 9 output) */
+    public static final int SIM_TERMINAL_INVENTORY_SIZE = 10;
+
     /** Default Minecraft item stack limit */
     public static final int DEFAULT_STACK_LIMIT = 64;
 
@@ -48,6 +60,18 @@ public final class Constants {
     /** Loot Fabricator: First output slot (grid starts here) */
     public static final int SLOT_OUTPUT_START = 1;
 
+    /** Simulation Array: Shared matrix input slot, after the model slots */
+    public static final int SLOT_ARRAY_MATRIX = SIM_ARRAY_MODEL_SLOTS;
+
+    /** Simulation Array: First output slot */
+    public static final int SLOT_ARRAY_OUTPUT_START = SLOT_ARRAY_MATRIX + 1;
+
+    /** Simulation Terminal: Matrix input slot, emptied into the datacenter every tick */
+    public static final int SLOT_TERMINAL_MATRIX = 0;
+
+    /** Simulation Terminal: First output slot */
+    public static final int SLOT_TERMINAL_OUTPUT_START = 1;
+
     // ============================================
     // Timing (in ticks)
     // ============================================
@@ -71,6 +95,9 @@ public final class Constants {
     /** Simulation Chamber: Maximum energy capacity */
     public static final int SIM_POWER_CAP = 2000000;
 
+    /** Simulation Array: Maximum energy capacity */
+    public static final int SIM_ARRAY_POWER_CAP = 32000000;
+
     /** Loot Fabricator: Maximum energy capacity */
     public static final int FAB_POWER_CAP = 1000000;
 
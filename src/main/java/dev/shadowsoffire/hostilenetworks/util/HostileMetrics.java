@@ -0,0 +1,376 @@
+package dev.shadowsoffire.hostilenetworks.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import cpw.mods.fml.common.Loader;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.HostileNetworks;
+import dev.shadowsoffire.hostilenetworks.tile.SimChamberTileEntity.FailureState;
+
+/**
+ * Production counters for Hostile Neural Networks machines.
+ * <p>
+ * All counters are striped {@link LongAdder}s, so machines can record from any thread without contention.
+ * Reads ({@link Counter#get()}, {@link #getFailureStateTicks(FailureState)},
+ * {@link #getFabrications(String, int)}) do not allocate and are safe for other mods to poll.
+ * Counters are periodically written to config/hostilenetworks/metrics.json when
+ * {@link HostileConfig#metricsDumpInterval} is set, and seeded from that file when the first server of the JVM
+ * starts, so totals carry over restarts instead of resetting with the process.
+ */
+public final class HostileMetrics {
+
+    /**
+     * Global machine counters.
+     */
+    public enum Counter {
+
+        /** Simulation cycles completed by Simulation Chambers */
+        SIMULATIONS_COMPLETED("simulations_completed"),
+        /** Prediction items produced by completed simulations */
+        PREDICTIONS_PRODUCED("predictions_produced"),
+        /** Completed simulations that produced at least one prediction */
+        PREDICTION_SUCCESSES("prediction_successes"),
+        /** Completed simulations that produced no prediction */
+        PREDICTION_FAILURES("prediction_failures"),
+        /** RF consumed by Simulation Chambers */
+        SIM_ENERGY_CONSUMED("sim_energy_consumed"),
+        /** RF consumed by Loot Fabricators */
+        FAB_ENERGY_CONSUMED("fab_energy_consumed"),
+        /** Items fabricated by Loot Fabricators */
+        FABRICATIONS("fabrications"),
+        /** Data gained by models in Deep Learners from kills */
+        KILL_DATA_GAINED("kill_data_gained");
+
+        private final String key;
+        private final LongAdder adder = new LongAdder();
+
+        Counter(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Get the JSON/command key of this counter.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        public void increment() {
+            adder.increment();
+        }
+
+        public void add(long amount) {
+            adder.add(amount);
+        }
+
+        /**
+         * Get the current value of this counter.
+         */
+        public long get() {
+            return adder.sum();
+        }
+    }
+
+    private static final FailureState[] FAILURE_STATES = FailureState.values();
+    private static final LongAdder[] FAILURE_STATE_TICKS = new LongAdder[FAILURE_STATES.length];
+
+    static {
+        for (int i = 0; i < FAILURE_STATE_TICKS.length; i++) {
+            FAILURE_STATE_TICKS[i] = new LongAdder();
+        }
+    }
+
+    /** Fabrications per model, indexed by drop index */
+    private static final Map<String, LongAdder[]> FABRICATIONS_BY_MODEL = new ConcurrentHashMap<>();
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting()
+        .create();
+
+    private static final String DUMP_FILE = "metrics.json";
+
+    // Replaced by the recorded start time when totals are loaded from a previous dump
+    private static volatile long startedAt = System.currentTimeMillis();
+    // Counters live for the JVM, so a singleplayer world reopened in the same session must not load them twice
+    private static boolean loaded;
+
+    private HostileMetrics() {}
+
+    // ==================== Recording ====================
+
+    /**
+     * Record one Simulation Chamber tick spent in the given state.
+     */
+    public static void recordFailureStateTick(FailureState state) {
+        FAILURE_STATE_TICKS[state.ordinal()].increment();
+    }
+
+    /**
+     * Record a completed simulation cycle.
+     *
+     * @param predictions The number of predictions produced (0 for a failed prediction)
+     */
+    public static void recordSimulation(int predictions) {
+        Counter.SIMULATIONS_COMPLETED.increment();
+        if (predictions > 0) {
+            Counter.PREDICTION_SUCCESSES.increment();
+            Counter.PREDICTIONS_PRODUCED.add(predictions);
+        } else {
+            Counter.PREDICTION_FAILURES.increment();
+        }
+    }
+
+    /**
+     * Record a fabricated drop.
+     */
+    public static void recordFabrication(String entityId, int dropIndex, int count) {
+        Counter.FABRICATIONS.add(count);
+
+        LongAdder[] adders = FABRICATIONS_BY_MODEL.get(entityId);
+        if (adders == null || dropIndex >= adders.length) {
+            adders = growFabricationCounters(entityId, dropIndex + 1);
+        }
+        adders[dropIndex].add(count);
+    }
+
+    private static synchronized LongAdder[] growFabricationCounters(String entityId, int size) {
+        LongAdder[] current = FABRICATIONS_BY_MODEL.get(entityId);
+        if (current != null && current.length >= size) {
+            return current;
+        }
+        LongAdder[] grown = new LongAdder[size];
+        int existing = current != null ? current.length : 0;
+        if (existing > 0) {
+            System.arraycopy(current, 0, grown, 0, existing);
+        }
+        for (int i = existing; i < size; i++) {
+            grown[i] = new LongAdder();
+        }
+        FABRICATIONS_BY_MODEL.put(entityId, grown);
+        return grown;
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Get the total number of Simulation Chamber ticks spent in a state.
+     */
+    public static long getFailureStateTicks(FailureState state) {
+        return FAILURE_STATE_TICKS[state.ordinal()].sum();
+    }
+
+    /**
+     * Get the number of items fabricated for a model's drop.
+     */
+    public static long getFabrications(String entityId, int dropIndex) {
+        LongAdder[] adders = FABRICATIONS_BY_MODEL.get(entityId);
+        return adders != null && dropIndex >= 0 && dropIndex < adders.length ? adders[dropIndex].sum() : 0L;
+    }
+
+    /**
+     * Get the time the counters started, in epoch milliseconds.
+     */
+    public static long getStartedAt() {
+        return startedAt;
+    }
+
+    // ==================== JSON Dump ====================
+
+    /**
+     * Build a JSON snapshot of all counters.
+     */
+    public static JsonObject toJson() {
+        JsonObject root = new JsonObject();
+        root.addProperty("started_at", startedAt);
+        root.addProperty("written_at", System.currentTimeMillis());
+
+        JsonObject counters = new JsonObject();
+        for (Counter counter : Counter.values()) {
+            counters.addProperty(counter.getKey(), counter.get());
+        }
+        root.add("counters", counters);
+
+        JsonObject states = new JsonObject();
+        for (FailureState state : FAILURE_STATES) {
+            states.addProperty(
+                state.name()
+                    .toLowerCase(),
+                getFailureStateTicks(state));
+        }
+        root.add("sim_state_ticks", states);
+
+        JsonObject fabrications = new JsonObject();
+        for (Map.Entry<String, LongAdder[]> entry : FABRICATIONS_BY_MODEL.entrySet()) {
+            JsonObject drops = new JsonObject();
+            LongAdder[] adders = entry.getValue();
+            for (int i = 0; i < adders.length; i++) {
+                long count = adders[i].sum();
+                if (count > 0) {
+                    drops.addProperty(String.valueOf(i), count);
+                }
+            }
+            fabrications.add(entry.getKey(), drops);
+        }
+        root.add("fabrications_by_model", fabrications);
+        return root;
+    }
+
+    /**
+     * Add the totals of a snapshot written by {@link #toJson()} to the counters.
+     */
+    static void addJson(JsonObject root) {
+        if (root.has("started_at")) {
+            startedAt = Math.min(startedAt, root.get("started_at")
+                .getAsLong());
+        }
+
+        JsonObject counters = root.getAsJsonObject("counters");
+        if (counters != null) {
+            for (Counter counter : Counter.values()) {
+                if (counters.has(counter.getKey())) {
+                    counter.add(
+                        counters.get(counter.getKey())
+                            .getAsLong());
+                }
+            }
+        }
+
+        JsonObject states = root.getAsJsonObject("sim_state_ticks");
+        if (states != null) {
+            for (FailureState state : FAILURE_STATES) {
+                String key = state.name()
+                    .toLowerCase();
+                if (states.has(key)) {
+                    FAILURE_STATE_TICKS[state.ordinal()].add(
+                        states.get(key)
+                            .getAsLong());
+                }
+            }
+        }
+
+        JsonObject fabrications = root.getAsJsonObject("fabrications_by_model");
+        if (fabrications != null) {
+            for (Map.Entry<String, JsonElement> model : fabrications.entrySet()) {
+                for (Map.Entry<String, JsonElement> drop : model.getValue()
+                    .getAsJsonObject()
+                    .entrySet()) {
+                    int dropIndex = Integer.parseInt(drop.getKey());
+                    // The FABRICATIONS total was restored with the other counters
+                    growFabricationCounters(model.getKey(), dropIndex + 1)[dropIndex].add(
+                        drop.getValue()
+                            .getAsLong());
+                }
+            }
+        }
+    }
+
+    /**
+     * Seed the counters from config/hostilenetworks/metrics.json, once per JVM.
+     * An unreadable file is moved aside rather than overwritten by the next dump.
+     */
+    public static synchronized void loadJson() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        File file = new File(getDumpDir(), DUMP_FILE);
+        if (!file.isFile()) {
+            return;
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            addJson(
+                new JsonParser().parse(reader)
+                    .getAsJsonObject());
+            HostileNetworks.LOG.info("Loaded metrics totals from {}", file);
+        } catch (IOException | RuntimeException e) {
+            File corrupt = new File(file.getPath() + ".corrupt");
+            HostileNetworks.LOG.warn("Failed to read metrics totals from {} ({}), moving it to {}", file, e.getMessage(), corrupt);
+            if (!file.renameTo(corrupt)) {
+                HostileNetworks.LOG.warn("Could not move {} aside", file);
+            }
+        }
+    }
+
+    /**
+     * Write the JSON snapshot to config/hostilenetworks/metrics.json.
+     * The snapshot goes to a temporary file first and replaces the old one with an atomic rename, so a crash or
+     * full disk mid-write never leaves a truncated dump behind to be loaded on the next start.
+     *
+     * @return The written file
+     */
+    public static synchronized File writeJson() throws IOException {
+        File dir = getDumpDir();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create directory " + dir);
+        }
+        File file = new File(dir, DUMP_FILE);
+        File temp = new File(dir, DUMP_FILE + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temp);
+            Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+            GSON.toJson(toJson(), writer);
+            writer.flush();
+            stream.getFD()
+                .sync();
+        }
+        try {
+            Files.move(
+                temp.toPath(),
+                file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+
+    private static File getDumpDir() {
+        return new File(Loader.instance().getConfigDir(), HostileNetworks.MODID);
+    }
+
+    /**
+     * Server tick listener that writes the JSON snapshot every {@link HostileConfig#metricsDumpInterval} seconds.
+     * Registered on the FML event bus.
+     */
+    public static class DumpTicker {
+
+        private int ticks;
+
+        @SubscribeEvent
+        public void onServerTick(TickEvent.ServerTickEvent event) {
+            if (event.phase != TickEvent.Phase.END || HostileConfig.metricsDumpInterval <= 0) {
+                return;
+            }
+            if (++ticks < HostileConfig.metricsDumpInterval * 20) {
+                return;
+            }
+            ticks = 0;
+            try {
+                writeJson();
+            } catch (IOException e) {
+                HostileNetworks.LOG.warn("Failed to write metrics dump: " + e.getMessage());
+            }
+        }
+    }
+}
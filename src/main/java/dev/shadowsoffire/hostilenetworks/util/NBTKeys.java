@@ -64,6 +64,9 @@ public class NBTKeys {
     /** Selected drop index */
     public static final String DROP_INDEX = "DropIndex";
 
+    /** Saved weighted drop schedules for fabricator outputs */
+    public static final String SCHEDULES = "Schedules";
+
     /** Fabricator progress */
     public static final String PROGRESS = "progress";
 
@@ -0,0 +1,78 @@
+package dev.shadowsoffire.hostilenetworks;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts heap bytes allocated by the current thread, for tests that pin down allocation-free paths.
+ */
+public final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS = getThreadBean();
+
+    private Allocations() {}
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    /**
+     * Whether this JVM can count allocated bytes per thread.
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Get the bytes the current thread has allocated so far.
+     */
+    public static long getAllocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(
+            Thread.currentThread()
+                .getId());
+    }
+
+    /**
+     * Run the body repeatedly and get the bytes it allocated per call, rounded down. The cost of the measuring loop
+     * itself is subtracted, so an allocation-free body reports 0.
+     *
+     * @param warmup     Calls made first so the body is compiled, and caches are built, before counting
+     * @param iterations Calls to count
+     */
+    public static long perCall(int warmup, int iterations, Runnable body) {
+        Runnable empty = () -> {};
+        for (int i = 0; i < warmup; i++) {
+            body.run();
+            empty.run();
+        }
+        long overhead = count(iterations, empty);
+        long total = count(iterations, body);
+        return Math.max(0, total - overhead) / iterations;
+    }
+
+    /**
+     * Run the body a number of times in a row, without warm-up, and get the bytes it allocated in total. The cost of
+     * the measuring loop itself is subtracted. For bodies whose state moves on with every call, where the caller has
+     * to pick the calls that are counted.
+     */
+    public static long total(int iterations, Runnable body) {
+        long overhead = count(iterations, () -> {});
+        return Math.max(0, count(iterations, body) - overhead);
+    }
+
+    private static long count(int iterations, Runnable body) {
+        long before = getAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            body.run();
+        }
+        return getAllocatedBytes() - before;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.shadowsoffire.hostilenetworks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ChatComponentText;
+
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.data.DataModelRegistry;
+import dev.shadowsoffire.hostilenetworks.data.ModelTier;
+import dev.shadowsoffire.hostilenetworks.data.ModelTierRegistry;
+import dev.shadowsoffire.hostilenetworks.item.DataModelItem;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
+import dev.shadowsoffire.hostilenetworks.item.PredictionMatrixItem;
+
+/**
+ * Fills the model registry and the item fields the machines read, without loading Minecraft or Forge.
+ */
+public final class TestModels {
+
+    // Stands in for every model's input and base drop; vanilla items are not registered outside the game
+    public static final Item DROP = new Item();
+
+    private TestModels() {}
+
+    /**
+     * Create the mod items the machine paths compare against and load the model tiers, if no test has yet.
+     */
+    public static void installItems() {
+        if (HostileItems.data_model == null) {
+            HostileItems.data_model = new DataModelItem();
+        }
+        if (HostileItems.prediction_matrix == null) {
+            HostileItems.prediction_matrix = new PredictionMatrixItem();
+        }
+        if (HostileItems.mob_prediction == null) {
+            HostileItems.mob_prediction = new MobPredictionItem();
+        }
+        if (ModelTierRegistry.getTiers()
+            .isEmpty()) {
+            ModelTierRegistry.init();
+        }
+    }
+
+    /**
+     * Register stub models with ids {@code test_mob_0} to {@code test_mob_<count - 1>}. Models already registered
+     * under those ids are replaced.
+     *
+     * @return The registered models, in id order
+     */
+    public static List<DataModel> register(int count) {
+        installItems();
+        List<DataModel> models = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String entityId = "test_mob_" + i;
+            DataModel model = new DataModel.Builder().entityId(entityId)
+                .name(new ChatComponentText(entityId))
+                .simCost(64 + i % 64)
+                .inputItem(new ItemStack(DROP))
+                .baseDrop(new ItemStack(DROP))
+                .fabricatorDrop(new ItemStack(DROP, 2))
+                .build();
+            DataModelRegistry.register(model);
+            models.add(model);
+        }
+        return models;
+    }
+
+    /**
+     * Create an attuned data model stack holding just enough data for the first tier that can simulate.
+     */
+    public static ItemStack createSimulatingModel(DataModel model) {
+        ItemStack stack = DataModelItem.createForEntity(model.getEntityId());
+        for (ModelTier tier : ModelTierRegistry.getTiers()) {
+            if (tier.canSim()) {
+                DataModelItem.setCurrentData(stack, model.getCurrentTierThreshold(tier));
+                break;
+            }
+        }
+        return stack;
+    }
+}
@@ -0,0 +1,134 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+
+import dev.shadowsoffire.hostilenetworks.Allocations;
+
+/**
+ * Drives a set of HNN machines without a World and reports what their ticks cost.
+ * <p>
+ * Machines are not placed in a fake World and stepped through {@code updateEntity()}: a World cannot be built on a
+ * plain test classpath, since it needs a save handler, a WorldProvider and a chunk provider, and chunks need the
+ * vanilla blocks that only exist once Forge has loaded the game. Only the world-free part of a machine's tick runs,
+ * the {@code runTicks} method that refills outputs from the buffers and does the machine's work within the
+ * {@link TickGovernor}'s budget. The caller supplies world time, redstone and energy; auto-ejection, power bus links
+ * and chunk saving are not exercised. After every tick the harness empties the output slots and counts what it took,
+ * so no machine backs up.
+ */
+final class MachineTickHarness {
+
+    private MachineTickHarness() {}
+
+    /**
+     * Run every machine once per tick, in order, for a number of ticks after a warm-up.
+     *
+     * @param machines    The machines, all of the same type
+     * @param firstOutput The first output slot; every slot from here on is emptied after each tick
+     * @param tick        Runs one tick of a machine at the given world time, topping up energy and inputs first
+     */
+    static <T extends IInventory> Report run(String machine, List<T> machines, int firstOutput, int warmup, int ticks,
+        ObjLongConsumer<T> tick) {
+        long[] outputs = new long[machines.get(0)
+            .getSizeInventory()];
+        long now = 0;
+        for (int i = 0; i < warmup; i++) {
+            tickAll(machines, firstOutput, now++, tick, outputs);
+        }
+        Arrays.fill(outputs, 0);
+
+        boolean countAllocations = Allocations.isSupported();
+        long bytesBefore = countAllocations ? Allocations.getAllocatedBytes() : 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            tickAll(machines, firstOutput, now++, tick, outputs);
+        }
+        long elapsed = System.nanoTime() - start;
+        double bytesPerTick = countAllocations ? (Allocations.getAllocatedBytes() - bytesBefore) / (double) ticks
+            : Double.NaN;
+        return new Report(machine, machines.size(), ticks, elapsed / (double) ticks, bytesPerTick, outputs);
+    }
+
+    private static <T extends IInventory> void tickAll(List<T> machines, int firstOutput, long now,
+        ObjLongConsumer<T> tick, long[] outputs) {
+        // Indexed, so the loop itself allocates no iterator
+        for (int i = 0; i < machines.size(); i++) {
+            T machine = machines.get(i);
+            tick.accept(machine, now);
+            takeOutputs(machine, firstOutput, outputs);
+        }
+    }
+
+    private static void takeOutputs(IInventory inventory, int firstOutput, long[] outputs) {
+        for (int slot = firstOutput; slot < outputs.length; slot++) {
+            ItemStack stack = inventory.getStackInSlot(slot);
+            if (stack != null) {
+                outputs[slot] += stack.stackSize;
+                inventory.setInventorySlotContents(slot, null);
+            }
+        }
+    }
+
+    /**
+     * What a run cost and produced, summed over all machines.
+     */
+    static final class Report {
+
+        final String machine;
+        final int count;
+        final int ticks;
+        final double nanosPerTick;
+        // NaN if the JVM cannot count allocations
+        final double bytesPerTick;
+        // Items taken out of each slot, indexed by slot
+        final long[] outputs;
+
+        Report(String machine, int count, int ticks, double nanosPerTick, double bytesPerTick, long[] outputs) {
+            this.machine = machine;
+            this.count = count;
+            this.ticks = ticks;
+            this.nanosPerTick = nanosPerTick;
+            this.bytesPerTick = bytesPerTick;
+            this.outputs = outputs;
+        }
+
+        double getNanosPerMachineTick() {
+            return this.nanosPerTick / this.count;
+        }
+
+        double getBytesPerMachineTick() {
+            return this.bytesPerTick / this.count;
+        }
+
+        long getOutput(int slot) {
+            return this.outputs[slot];
+        }
+
+        long getTotalOutput() {
+            long total = 0;
+            for (long count : this.outputs) {
+                total += count;
+            }
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%d x %s: %d ticks, %.1f ns/tick (%.1f per machine), %.2f bytes/tick (%.2f per machine),"
+                    + " %d items out",
+                this.count,
+                this.machine,
+                this.ticks,
+                this.nanosPerTick,
+                getNanosPerMachineTick(),
+                this.bytesPerTick,
+                getBytesPerMachineTick(),
+                getTotalOutput());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import dev.shadowsoffire.hostilenetworks.Allocations;
+import dev.shadowsoffire.hostilenetworks.TestModels;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+
+/**
+ * Runs one and then {@link #COUNT} Simulation Chambers and Loot Fabricators in {@link MachineTickHarness} and reports
+ * ns/tick, bytes/tick and outputs. Timings depend on the host and are only reported. Every machine must produce at
+ * its nominal rate, and the bytes allocated per machine tick must not grow with the number of machines.
+ */
+public class MachineTickHarnessTest {
+
+    private static final int CYCLES = 20;
+    private static final int COUNT = 64;
+    // A chamber cycle is the start tick plus the simulation itself
+    private static final int CHAMBER_CYCLE_TICKS = Constants.SIMULATION_TICKS + 1;
+    // Allowed growth in bytes per machine tick from one machine to COUNT, for TLAB and JIT noise
+    private static final double BYTES_SLACK = 16;
+
+    private static DataModel model;
+
+    @BeforeAll
+    public static void setUp() {
+        model = TestModels.register(50)
+            .get(0);
+    }
+
+    @Test
+    public void chambers(TestReporter reporter) {
+        MachineTickHarness.Report one = runChambers(1);
+        MachineTickHarness.Report many = runChambers(COUNT);
+        reporter.publishEntry("single", one.toString());
+        reporter.publishEntry("many", many.toString());
+
+        // The cycle boundary can fall either side of the measured window
+        assertTrue(one.getOutput(Constants.SLOT_OUTPUT_BASE) >= CYCLES - 1, one.toString());
+        assertTrue(many.getOutput(Constants.SLOT_OUTPUT_BASE) >= (long) COUNT * (CYCLES - 1), many.toString());
+        assertAllocationsScale(one, many);
+    }
+
+    @Test
+    public void lootFabricators(TestReporter reporter) {
+        MachineTickHarness.Report one = runFabricators(1);
+        MachineTickHarness.Report many = runFabricators(COUNT);
+        reporter.publishEntry("single", one.toString());
+        reporter.publishEntry("many", many.toString());
+
+        int perCraft = model.getFabricatorDrops()
+            .get(0).stackSize;
+        assertTrue(one.getTotalOutput() >= (long) (CYCLES - 1) * perCraft, one.toString());
+        assertTrue(many.getTotalOutput() >= (long) COUNT * (CYCLES - 1) * perCraft, many.toString());
+        assertAllocationsScale(one, many);
+    }
+
+    private static MachineTickHarness.Report runChambers(int count) {
+        List<SimChamberTileEntity> chambers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SimChamberTileEntity chamber = new SimChamberTileEntity();
+            chamber.setInventorySlotContents(Constants.SLOT_MODEL, TestModels.createSimulatingModel(model));
+            chamber.setInventorySlotContents(Constants.SLOT_MATRIX, new ItemStack(HostileItems.prediction_matrix, 64));
+            chambers.add(chamber);
+        }
+        return MachineTickHarness.run(
+            "Simulation Chamber",
+            chambers,
+            Constants.SLOT_OUTPUT_BASE,
+            2 * CHAMBER_CYCLE_TICKS,
+            CYCLES * CHAMBER_CYCLE_TICKS,
+            (chamber, now) -> {
+                chamber.receiveEnergy(ForgeDirection.DOWN, Integer.MAX_VALUE, false);
+                chamber.getStackInSlot(Constants.SLOT_MATRIX).stackSize = 64;
+                chamber.runTicks(now, false);
+            });
+    }
+
+    private static MachineTickHarness.Report runFabricators(int count) {
+        List<LootFabTileEntity> fabs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LootFabTileEntity fab = new LootFabTileEntity();
+            ItemStack predictions = MobPredictionItem.create(model.getEntityId());
+            predictions.stackSize = 64;
+            fab.setInventorySlotContents(Constants.SLOT_PREDICTION, predictions);
+            fab.setSelection(model, 0);
+            fabs.add(fab);
+        }
+        return MachineTickHarness.run(
+            "Loot Fabricator",
+            fabs,
+            Constants.SLOT_OUTPUT_START,
+            2 * Constants.FABRICATION_TICKS,
+            CYCLES * Constants.FABRICATION_TICKS,
+            (fab, now) -> {
+                fab.receiveEnergy(ForgeDirection.DOWN, Integer.MAX_VALUE, false);
+                fab.getStackInSlot(Constants.SLOT_PREDICTION).stackSize = 64;
+                fab.runTicks();
+            });
+    }
+
+    /**
+     * Fail if a machine allocates more per tick when many machines run than when it runs alone.
+     */
+    private static void assertAllocationsScale(MachineTickHarness.Report one, MachineTickHarness.Report many) {
+        if (Allocations.isSupported()) {
+            assertTrue(
+                many.getBytesPerMachineTick() <= one.getBytesPerMachineTick() + BYTES_SLACK,
+                one + " / " + many);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package dev.shadowsoffire.hostilenetworks.tile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import dev.shadowsoffire.hostilenetworks.Allocations;
+import dev.shadowsoffire.hostilenetworks.HostileConfig;
+import dev.shadowsoffire.hostilenetworks.TestModels;
+import dev.shadowsoffire.hostilenetworks.config.ModelConfig;
+import dev.shadowsoffire.hostilenetworks.data.DataModel;
+import dev.shadowsoffire.hostilenetworks.item.HostileItems;
+import dev.shadowsoffire.hostilenetworks.item.MobPredictionItem;
+import dev.shadowsoffire.hostilenetworks.util.Constants;
+
+/**
+ * Fails if a running Simulation Chamber's ticks, the calls they make, or pipe polls start allocating again.
+ */
+public class SimChamberAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    // Whole simulation cycles run before measuring a running chamber, so classes are loaded and caches built
+    private static final int WARMUP_CYCLES = 20;
+    // Ticks measured right after a cycle starts; all of them fall before the completion tick, which does allocate
+    private static final int RUNNING_TICKS = Constants.SIMULATION_TICKS - 50;
+
+    private static DataModel model;
+    private static DataModel overriddenModel;
+    private static ItemStack matrix;
+    // Written by the measured bodies so the calls cannot be optimised away
+    private static int sink;
+
+    @BeforeAll
+    public static void setUp() {
+        assumeTrue(Allocations.isSupported(), "JVM cannot count allocations per thread");
+        List<DataModel> models = TestModels.register(50);
+        model = models.get(7);
+        overriddenModel = models.get(8);
+        ModelConfig config = new ModelConfig();
+        config.simCost = 256;
+        HostileConfig.MODEL_CONFIGS.put(overriddenModel.getEntityId(), config);
+        matrix = new ItemStack(HostileItems.prediction_matrix);
+    }
+
+    @Test
+    public void simCostDoesNotAllocate() {
+        assertEquals(0, Allocations.perCall(WARMUP, ITERATIONS, () -> sink += model.getSimCostWithConfig()));
+        assertEquals(
+            0,
+            Allocations.perCall(WARMUP, ITERATIONS, () -> sink += overriddenModel.getSimCostWithConfig()));
+        assertEquals(256, overriddenModel.getSimCostWithConfig());
+    }
+
+    @Test
+    public void matrixCheckDoesNotAllocate() {
+        assertEquals(
+            0,
+            Allocations.perCall(WARMUP, ITERATIONS, () -> sink += HostileItems.isPredictionMatrix(matrix) ? 1 : 0));
+    }
+
+    @Test
+    public void predictionTemplateDoesNotAllocate() {
+        String entityId = model.getEntityId();
+        assertNotNull(MobPredictionItem.getTemplate(entityId));
+        assertEquals(
+            0,
+            Allocations.perCall(WARMUP, ITERATIONS, () -> sink += MobPredictionItem.getTemplate(entityId).stackSize));
+    }
+
+    @Test
+    public void runningTicksDoNotAllocate() {
+        SimChamberTileEntity chamber = new SimChamberTileEntity();
+        chamber.setInventorySlotContents(Constants.SLOT_MODEL, TestModels.createSimulatingModel(model));
+        chamber.setInventorySlotContents(Constants.SLOT_MATRIX, new ItemStack(HostileItems.prediction_matrix, 64));
+        long[] now = { 0 };
+        Runnable tick = () -> {
+            chamber.receiveEnergy(ForgeDirection.DOWN, Integer.MAX_VALUE, false);
+            chamber.getStackInSlot(Constants.SLOT_MATRIX).stackSize = 64;
+            chamber.setInventorySlotContents(Constants.SLOT_OUTPUT_BASE, null);
+            chamber.setInventorySlotContents(Constants.SLOT_OUTPUT_PREDICTION, null);
+            chamber.runTicks(now[0]++, false);
+        };
+        for (int i = 0; i < WARMUP_CYCLES * (Constants.SIMULATION_TICKS + 1); i++) {
+            tick.run();
+        }
+        // Stop on a start tick, so every measured tick is a running one
+        do {
+            tick.run();
+        } while (chamber.getRuntime() != Constants.SIMULATION_TICKS);
+
+        assertEquals(0, Allocations.total(RUNNING_TICKS, tick));
+        assertTrue(chamber.getRuntime() > 0, "the measured ticks reached the end of the cycle");
+    }
+
+    @Test
+    public void pipePollsDoNotAllocate() {
+        SimChamberTileEntity chamber = new SimChamberTileEntity();
+        assertEquals(0, Allocations.perCall(WARMUP, ITERATIONS, () -> {
+            for (int side = 0; side < 6; side++) {
+                sink += chamber.getAccessibleSlotsFromSide(side).length;
+            }
+            sink += chamber.isItemValidForSlot(Constants.SLOT_MATRIX, matrix) ? 1 : 0;
+        }));
+    }
+}